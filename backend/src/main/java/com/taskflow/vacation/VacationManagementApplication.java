@@ -2,14 +2,19 @@ package com.taskflow.vacation;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaRepositories(basePackages = "com.taskflow.vacation.repository")
+@EnableScheduling
 public class VacationManagementApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(VacationManagementApplication.class, args);
+		SpringApplication application = new SpringApplication(VacationManagementApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(4096));
+		application.run(args);
 	}
 
 }
\ No newline at end of file
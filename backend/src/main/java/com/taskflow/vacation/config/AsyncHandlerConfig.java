@@ -0,0 +1,33 @@
+package com.taskflow.vacation.config;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+public class AsyncHandlerConfig {
+
+    /**
+     * With async handlers off, puts {@link CompletedFutureReturnValueHandler}
+     * ahead of the built-in handlers so futures never reach the async path.
+     * Checked at runtime rather than with a condition, which AOT would freeze.
+     */
+    @Bean
+    public SmartInitializingSingleton synchronousHandlerReturnValues(RequestMappingHandlerAdapter handlerAdapter,
+                                                                     @Value("${async-handlers.enabled}") boolean enabled) {
+        return () -> {
+            if (enabled) {
+                return;
+            }
+            List<HandlerMethodReturnValueHandler> handlers = new ArrayList<>(handlerAdapter.getReturnValueHandlers());
+            handlers.add(0, new CompletedFutureReturnValueHandler(handlerAdapter.getReturnValueHandlers()));
+            handlerAdapter.setReturnValueHandlers(handlers);
+        };
+    }
+}
@@ -0,0 +1,137 @@
+package com.taskflow.vacation.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Hibernate second-level cache backed by in-process Caffeine caches. Users are
+ * cached by id in {@value #USERS_REGION} and team rosters (users by manager)
+ * in {@value #TEAM_ROSTERS_REGION}; Hibernate invalidates both whenever the
+ * {@code users} table is written through JPA, including bulk JPQL updates.
+ * The caches are local, so other nodes may serve stale data until entries expire.
+ */
+@Configuration
+public class CacheConfig {
+
+    public static final String USERS_REGION = "users";
+    public static final String TEAM_ROSTERS_REGION = "team-rosters";
+
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${second-level-cache.users.max-entries}") long usersMaxEntries,
+            @Value("${second-level-cache.team-rosters.max-entries}") long rostersMaxEntries,
+            @Value("${second-level-cache.ttl-seconds}") long ttlSeconds,
+            @Value("${second-level-cache.statistics}") boolean statistics) {
+        // A manager of our own rather than the JVM-wide default one, so that each application context owns its regions.
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("hibernate-" + UUID.randomUUID()), CacheConfig.class.getClassLoader());
+        createRegion(cacheManager, USERS_REGION, usersMaxEntries, ttlSeconds, statistics);
+        createRegion(cacheManager, TEAM_ROSTERS_REGION, rostersMaxEntries, ttlSeconds, statistics);
+        createRegion(cacheManager, QUERY_RESULTS_REGION, rostersMaxEntries, ttlSeconds, statistics);
+        // Timestamps must outlive every cached query result, so they are neither bounded nor expired.
+        createRegion(cacheManager, UPDATE_TIMESTAMPS_REGION, 0, 0, statistics);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            CacheManager hibernateCacheManager,
+            @Value("${second-level-cache.statistics}") boolean statistics) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, statistics);
+        };
+    }
+
+    /**
+     * Publishes hits, misses and the hit ratio of each region as
+     * {@code hibernate.cache.*} metrics tagged with the region name. Hibernate
+     * only collects them with {@code second-level-cache.statistics} on, since
+     * every session then pays for the bookkeeping.
+     */
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(@Lazy EntityManagerFactory entityManagerFactory,
+                                               @Value("${second-level-cache.statistics}") boolean enabled) {
+        return registry -> {
+            if (!enabled) {
+                return;
+            }
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            bindRegion(registry, statistics, USERS_REGION, stats -> stats.getDomainDataRegionStatistics(USERS_REGION));
+            // Query regions are only created on first use, so their statistics are looked up on every read.
+            bindRegion(registry, statistics, TEAM_ROSTERS_REGION, stats -> stats.getQueryRegionStatistics(TEAM_ROSTERS_REGION));
+        };
+    }
+
+    private static void bindRegion(MeterRegistry registry, Statistics statistics, String region,
+                                   Function<Statistics, CacheRegionStatistics> regionStatistics) {
+        ToDoubleFunction<Statistics> hits = stats -> {
+            CacheRegionStatistics regionStats = regionStatistics.apply(stats);
+            return regionStats == null ? 0 : regionStats.getHitCount();
+        };
+        ToDoubleFunction<Statistics> misses = stats -> {
+            CacheRegionStatistics regionStats = regionStatistics.apply(stats);
+            return regionStats == null ? 0 : regionStats.getMissCount();
+        };
+        FunctionCounter.builder("hibernate.cache.hits", statistics, hits)
+                .tag("region", region)
+                .register(registry);
+        FunctionCounter.builder("hibernate.cache.misses", statistics, misses)
+                .tag("region", region)
+                .register(registry);
+        Gauge.builder("hibernate.cache.hit.ratio", statistics, stats -> {
+                    double hitCount = hits.applyAsDouble(stats);
+                    double requests = hitCount + misses.applyAsDouble(stats);
+                    return requests == 0 ? 0 : hitCount / requests;
+                })
+                .tag("region", region)
+                .register(registry);
+    }
+
+    private static void createRegion(CacheManager cacheManager, String name, long maxEntries, long ttlSeconds,
+                                     boolean statistics) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(statistics);
+        if (maxEntries > 0) {
+            configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        }
+        if (ttlSeconds > 0) {
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        }
+        cacheManager.createCache(name, configuration);
+    }
+}
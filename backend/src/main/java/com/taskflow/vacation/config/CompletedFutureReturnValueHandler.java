@@ -0,0 +1,81 @@
+package com.taskflow.vacation.config;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandlerComposite;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Writes a {@link CompletableFuture} that is already complete straight from
+ * the request thread. Spring MVC would otherwise start async processing and
+ * re-dispatch the request just to read a value that is already there, which
+ * is all {@link WorkloadExecutors} produces with async handlers switched off.
+ * Pending or failed futures go through the regular async path.
+ */
+class CompletedFutureReturnValueHandler implements HandlerMethodReturnValueHandler {
+
+    private final HandlerMethodReturnValueHandlerComposite delegates = new HandlerMethodReturnValueHandlerComposite();
+
+    CompletedFutureReturnValueHandler(List<HandlerMethodReturnValueHandler> delegates) {
+        this.delegates.addHandlers(delegates);
+    }
+
+    @Override
+    public boolean supportsReturnType(MethodParameter returnType) {
+        return CompletableFuture.class.isAssignableFrom(returnType.getParameterType());
+    }
+
+    @Override
+    public void handleReturnValue(Object returnValue, MethodParameter returnType,
+                                  ModelAndViewContainer mavContainer, NativeWebRequest webRequest) throws Exception {
+        if (returnValue instanceof CompletableFuture<?> future && future.isDone() && !future.isCompletedExceptionally()) {
+            Object result = future.join();
+            delegates.handleReturnValue(result, new CompletedValueParameter(returnType, result), mavContainer, webRequest);
+            return;
+        }
+        delegates.handleReturnValue(returnValue, returnType, mavContainer, webRequest);
+    }
+
+    /**
+     * The handler method's return type with the future unwrapped, so
+     * {@code CompletableFuture<ResponseEntity<T>>} is handled as {@code ResponseEntity<T>}.
+     */
+    private static class CompletedValueParameter extends MethodParameter {
+
+        private final Object value;
+        private final ResolvableType valueType;
+
+        CompletedValueParameter(MethodParameter original, Object value) {
+            super(original);
+            this.value = value;
+            this.valueType = ResolvableType.forMethodParameter(original).getGeneric();
+        }
+
+        private CompletedValueParameter(CompletedValueParameter original) {
+            super(original);
+            this.value = original.value;
+            this.valueType = original.valueType;
+        }
+
+        @Override
+        public Class<?> getParameterType() {
+            return value != null ? value.getClass() : valueType.toClass();
+        }
+
+        @Override
+        public Type getGenericParameterType() {
+            return valueType.getType();
+        }
+
+        @Override
+        public CompletedValueParameter clone() {
+            return new CompletedValueParameter(this);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.taskflow.vacation.config;
+
+import com.taskflow.vacation.monitoring.SqlStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * Declaring our own executors switches off Boot's default one, which JPA
+     * deferred bootstrap and MVC async still look up by name, so restore it here.
+     */
+    @Lazy
+    @Bean(name = { TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME })
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor dashboardExecutor(
+            @Value("${executors.dashboard.pool-size}") int poolSize,
+            @Value("${executors.dashboard.queue-capacity}") int queueCapacity) {
+        return boundedExecutor("dashboard-", poolSize, queueCapacity, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Request handlers use AbortPolicy rather than running on the caller: a
+     * saturated workload is answered with 503 instead of tying up Tomcat threads.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor readExecutor(
+            @Value("${executors.reads.pool-size}") int poolSize,
+            @Value("${executors.reads.queue-capacity}") int queueCapacity) {
+        return boundedExecutor("reads-", poolSize, queueCapacity, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor writeExecutor(
+            @Value("${executors.writes.pool-size}") int poolSize,
+            @Value("${executors.writes.queue-capacity}") int queueCapacity) {
+        return boundedExecutor("writes-", poolSize, queueCapacity, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private ThreadPoolTaskExecutor boundedExecutor(String threadNamePrefix, int poolSize, int queueCapacity,
+                                                   RejectedExecutionHandler rejectedExecutionHandler) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(rejectedExecutionHandler);
+        executor.setTaskDecorator(task -> DelegatingSecurityContextRunnable.create(SqlStats.wrap(task), null));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
@@ -0,0 +1,16 @@
+package com.taskflow.vacation.config;
+
+import com.taskflow.vacation.repository.ArchivedVacationReads;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer(ArchivedVacationReads archivedVacationReads) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, archivedVacationReads);
+    }
+}
@@ -0,0 +1,60 @@
+package com.taskflow.vacation.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Logs the slowest startup steps recorded by {@link BufferingApplicationStartup}
+ * once the application is ready, then releases the buffer.
+ */
+@Component
+public class StartupReportListener implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupReportListener.class);
+
+    @Value("${startup.report.enabled}")
+    private boolean enabled;
+
+    @Value("${startup.report.top}")
+    private int top;
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        ApplicationStartup startup = event.getApplicationContext().getApplicationStartup();
+        if (!(startup instanceof BufferingApplicationStartup buffering)) {
+            return;
+        }
+
+        StartupTimeline timeline = buffering.drainBufferedTimeline();
+        if (!enabled) {
+            return;
+        }
+
+        log.info("Application ready in {} ms ({} startup steps recorded)",
+                event.getTimeTaken().toMillis(), timeline.getEvents().size());
+
+        timeline.getEvents().stream()
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(top)
+                .forEach(e -> log.info("  {} ms  {} {}", e.getDuration().toMillis(),
+                        e.getStartupStep().getName(), describeTags(e.getStartupStep())));
+    }
+
+    private String describeTags(StartupStep step) {
+        return StreamSupport.stream(step.getTags().spliterator(), false)
+                .map(tag -> tag.getKey() + "=" + tag.getValue())
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+}
@@ -0,0 +1,58 @@
+package com.taskflow.vacation.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs controller work for asynchronous handlers. With
+ * {@code async-handlers.enabled} the work is moved off the Tomcat thread onto
+ * the bounded executor of its workload and fails with a
+ * {@link java.util.concurrent.TimeoutException} past the workload timeout;
+ * otherwise it runs inline and the completed future is written on the request
+ * thread by {@link CompletedFutureReturnValueHandler}, without an async
+ * dispatch. The security context and SQL statistics
+ * of the request follow the work (see {@link ExecutorConfig}).
+ */
+@Component
+public class WorkloadExecutors {
+
+    public enum Workload {
+        READS, WRITES
+    }
+
+    @Autowired
+    @Qualifier("readExecutor")
+    private Executor readExecutor;
+
+    @Autowired
+    @Qualifier("writeExecutor")
+    private Executor writeExecutor;
+
+    @Value("${async-handlers.enabled}")
+    private boolean enabled;
+
+    @Value("${async-handlers.reads.timeout-ms}")
+    private long readsTimeoutMs;
+
+    @Value("${async-handlers.writes.timeout-ms}")
+    private long writesTimeoutMs;
+
+    public <T> CompletableFuture<T> supply(Workload workload, Supplier<T> work) {
+        if (!enabled) {
+            return CompletableFuture.completedFuture(work.get());
+        }
+        return switch (workload) {
+            case READS -> CompletableFuture.supplyAsync(work, readExecutor)
+                    .orTimeout(readsTimeoutMs, TimeUnit.MILLISECONDS);
+            case WRITES -> CompletableFuture.supplyAsync(work, writeExecutor)
+                    .orTimeout(writesTimeoutMs, TimeUnit.MILLISECONDS);
+        };
+    }
+}
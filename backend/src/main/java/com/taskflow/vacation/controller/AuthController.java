@@ -2,9 +2,15 @@ package com.taskflow.vacation.controller;
 
 import com.taskflow.vacation.dto.AuthResponse;
 import com.taskflow.vacation.dto.LoginRequest;
+import com.taskflow.vacation.exception.TooManyRequestsException;
+import com.taskflow.vacation.ratelimit.RateLimiter;
+import com.taskflow.vacation.security.JwtUtil;
+import com.taskflow.vacation.security.TokenRevocationService;
 import com.taskflow.vacation.service.AuthService;
+import io.jsonwebtoken.JwtException;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -15,8 +21,33 @@ public class AuthController {
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
     @PostMapping("/login")
     public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
+        long retryAfter = rateLimiter.acquireLoginByAccount(request.getEmail());
+        if (retryAfter > 0) {
+            throw new TooManyRequestsException(retryAfter);
+        }
         return ResponseEntity.ok(authService.login(request));
     }
-}
\ No newline at end of file
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            try {
+                tokenRevocationService.revokeToken(jwtUtil.extractAllClaims(authorization.substring(7)));
+            } catch (JwtException e) {
+                // Expired or invalid tokens are already unusable.
+            }
+        }
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.taskflow.vacation.controller;
+
+import com.taskflow.vacation.dto.DashboardResponse;
+import com.taskflow.vacation.service.DashboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.TimeoutException;
+
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @GetMapping
+    public ResponseEntity<DashboardResponse> getDashboard() throws TimeoutException {
+        return ResponseEntity.ok(dashboardService.getDashboard());
+    }
+}
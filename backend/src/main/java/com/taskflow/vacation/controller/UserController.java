@@ -1,6 +1,10 @@
 package com.taskflow.vacation.controller;
 
+import com.taskflow.vacation.config.WorkloadExecutors;
+import com.taskflow.vacation.config.WorkloadExecutors.Workload;
 import com.taskflow.vacation.dto.CreateUserRequest;
+import com.taskflow.vacation.dto.OffboardUsersRequest;
+import com.taskflow.vacation.dto.OffboardUsersResponse;
 import com.taskflow.vacation.dto.UpdateUserRequest;
 import com.taskflow.vacation.dto.UserResponse;
 import com.taskflow.vacation.service.UserService;
@@ -12,6 +16,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/users")
@@ -20,42 +25,46 @@ public class UserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private WorkloadExecutors workloadExecutors;
+
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<UserResponse>> getAllUsers() {
-        return ResponseEntity.ok(userService.getAllUsers());
+    public CompletableFuture<ResponseEntity<List<UserResponse>>> getAllUsers() {
+        return workloadExecutors.supply(Workload.READS, () -> ResponseEntity.ok(userService.getAllUsers()));
     }
 
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<UserResponse> getUserById(@PathVariable Long id) {
-        return ResponseEntity.ok(userService.getUserById(id));
+    public CompletableFuture<ResponseEntity<UserResponse>> getUserById(@PathVariable Long id) {
+        return workloadExecutors.supply(Workload.READS, () -> ResponseEntity.ok(userService.getUserById(id)));
     }
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<UserResponse> createUser(@Valid @RequestBody CreateUserRequest request) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(userService.createUser(request));
+    public CompletableFuture<ResponseEntity<UserResponse>> createUser(@Valid @RequestBody CreateUserRequest request) {
+        return workloadExecutors.supply(Workload.WRITES,
+                () -> ResponseEntity.status(HttpStatus.CREATED).body(userService.createUser(request)));
     }
 
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<UserResponse> updateUser(@PathVariable Long id, @Valid @RequestBody UpdateUserRequest request) {
-        return ResponseEntity.ok(userService.updateUser(id, request));
+    public CompletableFuture<ResponseEntity<UserResponse>> updateUser(@PathVariable Long id, @Valid @RequestBody UpdateUserRequest request) {
+        return workloadExecutors.supply(Workload.WRITES, () -> ResponseEntity.ok(userService.updateUser(id, request)));
     }
 
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<?> deleteUser(@PathVariable Long id) {
-        try {
+    public CompletableFuture<ResponseEntity<Void>> deleteUser(@PathVariable Long id) {
+        return workloadExecutors.supply(Workload.WRITES, () -> {
             userService.deleteUser(id);
             return ResponseEntity.noContent().build();
-        } catch (IllegalStateException e) {
-            return ResponseEntity.status(HttpStatus.CONFLICT)
-                .body(java.util.Map.of("error", "USER_HAS_VACATIONS", "message", e.getMessage()));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(java.util.Map.of("error", "DELETE_FAILED", "message", e.getMessage()));
-        }
+        });
+    }
+
+    @PostMapping("/offboard")
+    @PreAuthorize("hasRole('ADMIN')")
+    public CompletableFuture<ResponseEntity<OffboardUsersResponse>> offboardUsers(@Valid @RequestBody OffboardUsersRequest request) {
+        return workloadExecutors.supply(Workload.WRITES, () -> ResponseEntity.ok(userService.offboardUsers(request)));
     }
-}
\ No newline at end of file
+}
@@ -1,15 +1,22 @@
 package com.taskflow.vacation.controller;
 
+import com.taskflow.vacation.config.WorkloadExecutors;
+import com.taskflow.vacation.config.WorkloadExecutors.Workload;
 import com.taskflow.vacation.dto.CreateVacationRequest;
+import com.taskflow.vacation.dto.DateRange;
 import com.taskflow.vacation.dto.VacationResponse;
+import com.taskflow.vacation.service.AvailabilityService;
 import com.taskflow.vacation.service.VacationService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/vacations")
@@ -18,29 +25,51 @@ public class VacationController {
     @Autowired
     private VacationService vacationService;
 
+    @Autowired
+    private AvailabilityService availabilityService;
+
+    @Autowired
+    private WorkloadExecutors workloadExecutors;
+
     @PostMapping
-    public ResponseEntity<VacationResponse> createVacation(@Valid @RequestBody CreateVacationRequest request) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(vacationService.createVacation(request));
+    public CompletableFuture<ResponseEntity<VacationResponse>> createVacation(@Valid @RequestBody CreateVacationRequest request) {
+        return workloadExecutors.supply(Workload.WRITES,
+                () -> ResponseEntity.status(HttpStatus.CREATED).body(vacationService.createVacation(request)));
     }
 
     @GetMapping
-    public ResponseEntity<List<VacationResponse>> getAllVacations() {
-        return ResponseEntity.ok(vacationService.getAllVacations());
+    public CompletableFuture<ResponseEntity<List<VacationResponse>>> getAllVacations(
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        return workloadExecutors.supply(Workload.READS,
+                () -> ResponseEntity.ok(vacationService.getAllVacations(includeArchived)));
+    }
+
+    @GetMapping("/availability")
+    public CompletableFuture<ResponseEntity<List<DateRange>>> findAvailableWindows(
+            @RequestParam int days,
+            @RequestParam(defaultValue = "3") int count,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) Integer horizonDays,
+            @RequestParam(required = false) Long userId) {
+        return workloadExecutors.supply(Workload.READS,
+                () -> ResponseEntity.ok(availabilityService.findAvailableWindows(userId, days, count, from, horizonDays)));
     }
 
     @PutMapping("/{id}/approve")
-    public ResponseEntity<VacationResponse> approveVacation(@PathVariable Long id) {
-        return ResponseEntity.ok(vacationService.approveVacation(id));
+    public CompletableFuture<ResponseEntity<VacationResponse>> approveVacation(@PathVariable Long id) {
+        return workloadExecutors.supply(Workload.WRITES, () -> ResponseEntity.ok(vacationService.approveVacation(id)));
     }
 
     @PutMapping("/{id}/reject")
-    public ResponseEntity<VacationResponse> rejectVacation(@PathVariable Long id) {
-        return ResponseEntity.ok(vacationService.rejectVacation(id));
+    public CompletableFuture<ResponseEntity<VacationResponse>> rejectVacation(@PathVariable Long id) {
+        return workloadExecutors.supply(Workload.WRITES, () -> ResponseEntity.ok(vacationService.rejectVacation(id)));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteVacation(@PathVariable Long id) {
-        vacationService.deleteVacation(id);
-        return ResponseEntity.noContent().build();
+    public CompletableFuture<ResponseEntity<Void>> deleteVacation(@PathVariable Long id) {
+        return workloadExecutors.supply(Workload.WRITES, () -> {
+            vacationService.deleteVacation(id);
+            return ResponseEntity.noContent().build();
+        });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,17 @@
+package com.taskflow.vacation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+public class CoverageSummary {
+    private LocalDate from;
+    private LocalDate to;
+    private int teamSize;
+    private int absentToday;
+    private int peakAbsent;
+    private LocalDate peakDate;
+}
@@ -0,0 +1,16 @@
+package com.taskflow.vacation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class DashboardResponse {
+    private UserResponse currentUser;
+    private List<UserResponse> team;
+    private List<VacationResponse> vacations;
+    private long pendingCount;
+    private CoverageSummary coverage;
+}
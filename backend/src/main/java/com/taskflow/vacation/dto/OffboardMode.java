@@ -0,0 +1,6 @@
+package com.taskflow.vacation.dto;
+
+public enum OffboardMode {
+    DEACTIVATE,
+    DELETE
+}
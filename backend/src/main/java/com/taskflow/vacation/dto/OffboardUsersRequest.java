@@ -0,0 +1,19 @@
+package com.taskflow.vacation.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.Set;
+
+@Data
+public class OffboardUsersRequest {
+    
+    @NotEmpty
+    private Set<@NotNull Long> userIds;
+    
+    @NotNull
+    private OffboardMode mode;
+    
+    private Long newManagerId;
+}
@@ -0,0 +1,12 @@
+package com.taskflow.vacation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class OffboardUsersResponse {
+    private int usersOffboarded;
+    private int reportsReassigned;
+    private int pendingVacationsClosed;
+}
@@ -12,4 +12,5 @@ public class UserResponse {
     private String name;
     private Role role;
     private Long managerId;
+    private boolean active;
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.taskflow.vacation.entity;
+
+public enum NotificationType {
+    VACATION_REQUESTED,
+    VACATION_APPROVED,
+    VACATION_REJECTED
+}
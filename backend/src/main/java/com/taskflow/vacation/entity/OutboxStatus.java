@@ -0,0 +1,8 @@
+package com.taskflow.vacation.entity;
+
+public enum OutboxStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
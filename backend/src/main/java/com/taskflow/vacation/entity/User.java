@@ -1,14 +1,19 @@
 package com.taskflow.vacation.entity;
 
+import com.taskflow.vacation.config.CacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.USERS_REGION)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -35,6 +40,9 @@ public class User {
     @JoinColumn(name = "manager_id")
     private User manager;
     
+    @Column(nullable = false, columnDefinition = "boolean default true")
+    private boolean active = true;
+    
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
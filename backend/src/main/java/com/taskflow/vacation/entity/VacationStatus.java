@@ -3,5 +3,6 @@ package com.taskflow.vacation.entity;
 public enum VacationStatus {
     PENDING,
     APPROVED,
-    REJECTED
+    REJECTED,
+    EXPIRED
 }
\ No newline at end of file
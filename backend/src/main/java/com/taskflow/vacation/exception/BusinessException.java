@@ -0,0 +1,24 @@
+package com.taskflow.vacation.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Expected business failure (not found, forbidden, conflict, invalid input).
+ * These are part of normal traffic, so no stack trace is captured; they are
+ * turned into problem+json responses by {@link GlobalExceptionHandler}.
+ */
+public abstract class BusinessException extends RuntimeException {
+
+    private final String error;
+
+    protected BusinessException(String error, String message) {
+        super(message, null, false, false);
+        this.error = error;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public abstract HttpStatus getStatus();
+}
@@ -0,0 +1,15 @@
+package com.taskflow.vacation.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class ConflictException extends BusinessException {
+
+    public ConflictException(String error, String message) {
+        super(error, message);
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.CONFLICT;
+    }
+}
@@ -0,0 +1,15 @@
+package com.taskflow.vacation.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidRequestException extends BusinessException {
+
+    public InvalidRequestException(String error, String message) {
+        super(error, message);
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.BAD_REQUEST;
+    }
+}
@@ -0,0 +1,19 @@
+package com.taskflow.vacation.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * The request could not be completed right now but may succeed on retry;
+ * answered with {@code Retry-After} like the other overload responses.
+ */
+public class ServiceUnavailableException extends BusinessException {
+
+    public ServiceUnavailableException(String error, String message) {
+        super(error, message);
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.SERVICE_UNAVAILABLE;
+    }
+}
@@ -0,0 +1,26 @@
+package com.taskflow.vacation.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * A rate limit was hit. Carries the number of seconds the client should wait,
+ * sent back as {@code Retry-After}.
+ */
+public class TooManyRequestsException extends BusinessException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(long retryAfterSeconds) {
+        super("TOO_MANY_REQUESTS", "Rate limit exceeded");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.TOO_MANY_REQUESTS;
+    }
+}
@@ -0,0 +1,94 @@
+package com.taskflow.vacation.monitoring;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL activity attributed to one HTTP request. The instance is bound to the
+ * request thread by {@link SqlStatsFilter} and carried onto executor threads
+ * with {@link #wrap(Runnable)}, so counters are updated concurrently.
+ */
+public class SqlStats {
+
+    public static final String REQUEST_ATTRIBUTE = SqlStats.class.getName();
+
+    private static final ThreadLocal<SqlStats> CURRENT = new ThreadLocal<>();
+
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder timeMillis = new LongAdder();
+    private final Map<String, AtomicInteger> executionsBySql = new ConcurrentHashMap<>();
+
+    static SqlStats current() {
+        return CURRENT.get();
+    }
+
+    static void bind(SqlStats stats) {
+        CURRENT.set(stats);
+    }
+
+    static void unbind() {
+        CURRENT.remove();
+    }
+
+    public static Runnable wrap(Runnable task) {
+        SqlStats stats = CURRENT.get();
+        if (stats == null) {
+            return task;
+        }
+        return () -> {
+            SqlStats previous = CURRENT.get();
+            CURRENT.set(stats);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    void recordExecution(long elapsedMillis) {
+        timeMillis.add(elapsedMillis);
+    }
+
+    void recordStatement(String sql, int executions) {
+        statements.add(executions);
+        executionsBySql.computeIfAbsent(sql, k -> new AtomicInteger()).addAndGet(executions);
+    }
+
+    void recordRow() {
+        rows.increment();
+    }
+
+    public long getStatements() {
+        return statements.sum();
+    }
+
+    public long getRows() {
+        return rows.sum();
+    }
+
+    public long getTimeMillis() {
+        return timeMillis.sum();
+    }
+
+    /**
+     * @return statements that ran at least {@code threshold} times, the usual sign of an N+1 loop
+     */
+    public Map<String, Integer> getRepeatedStatements(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        executionsBySql.forEach((sql, count) -> {
+            if (count.get() >= threshold) {
+                repeated.put(sql, count.get());
+            }
+        });
+        return repeated;
+    }
+}
@@ -0,0 +1,82 @@
+package com.taskflow.vacation.monitoring;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * Wraps the application {@link DataSource} so every statement and fetched row
+ * is attributed to the {@link SqlStats} of the request that caused it.
+ */
+@Configuration
+public class SqlStatsDataSourceConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlStatsDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(new StatementListener())
+                            .methodListener(new RowListener())
+                            .proxyResultSet()
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static class StatementListener implements QueryExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            SqlStats stats = SqlStats.current();
+            if (stats == null) {
+                return;
+            }
+            // Elapsed time covers the whole execute/executeBatch call, however many
+            // statements it carried; a prepared batch has one query with a parameter set per row.
+            stats.recordExecution(execInfo.getElapsedTime());
+            for (QueryInfo query : queryInfoList) {
+                int executions = execInfo.isBatch() ? Math.max(1, query.getParametersList().size()) : 1;
+                stats.recordStatement(query.getQuery(), executions);
+            }
+        }
+    }
+
+    private static class RowListener implements MethodExecutionListener {
+
+        @Override
+        public void beforeMethod(MethodExecutionContext executionContext) {
+        }
+
+        @Override
+        public void afterMethod(MethodExecutionContext executionContext) {
+            if (executionContext.getTarget() instanceof ResultSet
+                    && "next".equals(executionContext.getMethod().getName())
+                    && Boolean.TRUE.equals(executionContext.getResult())) {
+                SqlStats stats = SqlStats.current();
+                if (stats != null) {
+                    stats.recordRow();
+                }
+            }
+        }
+    }
+}
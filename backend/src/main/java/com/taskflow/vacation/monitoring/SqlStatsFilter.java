@@ -0,0 +1,123 @@
+package com.taskflow.vacation.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the SQL statements, fetched rows and database time of each request,
+ * publishes them as {@code http.sql.*} metrics and logs requests that exceed
+ * the configured budget or repeat the same statement (likely N+1). With
+ * {@code sql-stats.response-headers} on, the numbers are also returned as
+ * {@code X-SQL-*} headers.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatsFilter.class);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${sql-stats.warn-statements}")
+    private int warnStatements;
+
+    @Value("${sql-stats.repeated-statement-threshold}")
+    private int repeatedStatementThreshold;
+
+    @Value("${sql-stats.response-headers}")
+    private boolean responseHeaders;
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        SqlStats stats = (SqlStats) request.getAttribute(SqlStats.REQUEST_ATTRIBUTE);
+        if (stats == null) {
+            stats = new SqlStats();
+            request.setAttribute(SqlStats.REQUEST_ATTRIBUTE, stats);
+        }
+        SqlStats.bind(stats);
+
+        ContentCachingResponseWrapper buffered = null;
+        if (responseHeaders) {
+            buffered = WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+            if (buffered == null) {
+                buffered = new ContentCachingResponseWrapper(response);
+            }
+        }
+        try {
+            chain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            SqlStats.unbind();
+            // Async handlers finish on another thread; the work is reported on the final async dispatch.
+            if (!isAsyncStarted(request)) {
+                String uri = routeOf(request);
+                record(request.getMethod(), uri, stats);
+                report(request.getMethod(), uri, stats);
+                if (buffered != null) {
+                    buffered.setHeader("X-SQL-Statements", String.valueOf(stats.getStatements()));
+                    buffered.setHeader("X-SQL-Rows", String.valueOf(stats.getRows()));
+                    buffered.setHeader("X-SQL-Time-Ms", String.valueOf(stats.getTimeMillis()));
+                    buffered.copyBodyToResponse();
+                }
+            }
+        }
+    }
+
+    private String routeOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    private void record(String method, String uri, SqlStats stats) {
+        DistributionSummary.builder("http.sql.statements")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        DistributionSummary.builder("http.sql.rows")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(stats.getRows());
+        Timer.builder("http.sql.time")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(stats.getTimeMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void report(String method, String uri, SqlStats stats) {
+        if (stats.getStatements() > warnStatements) {
+            log.warn("{} {} executed {} SQL statements ({} rows, {} ms)",
+                    method, uri, stats.getStatements(), stats.getRows(), stats.getTimeMillis());
+        }
+        for (Map.Entry<String, Integer> repeated : stats.getRepeatedStatements(repeatedStatementThreshold).entrySet()) {
+            log.warn("Possible N+1 in {} {}: statement executed {} times: {}",
+                    method, uri, repeated.getValue(), repeated.getKey());
+        }
+    }
+}
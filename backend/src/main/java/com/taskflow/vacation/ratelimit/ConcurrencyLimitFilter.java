@@ -0,0 +1,130 @@
+package com.taskflow.vacation.ratelimit;
+
+import com.taskflow.vacation.ratelimit.ConcurrencyLimiter.RouteGroup;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Sheds load per route group once the adaptive concurrency limit is reached,
+ * answering 503 with Retry-After instead of queueing on Tomcat threads and
+ * database connections. Runs ahead of security so JWT lookups are covered too.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private ConcurrencyLimiter concurrencyLimiter;
+
+    @Value("${concurrency-limit.retry-after-seconds}")
+    private int retryAfterSeconds;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        RouteGroup group = routeGroupOf(request);
+        if (group == null || !concurrencyLimiter.isEnabled()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        if (!concurrencyLimiter.tryAcquire(group)) {
+            reject(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean released = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete(group, start));
+                released = true;
+            }
+        } catch (IOException | ServletException | RuntimeException e) {
+            concurrencyLimiter.release(group, start, true);
+            released = true;
+            throw e;
+        } finally {
+            if (!released) {
+                concurrencyLimiter.release(group, start, response.getStatus() >= 500);
+            }
+        }
+    }
+
+    private RouteGroup routeGroupOf(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (path.startsWith("/api/auth/")) {
+            return RouteGroup.AUTH;
+        }
+        if (!path.startsWith("/api/")) {
+            return null;
+        }
+        String method = request.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method) ? RouteGroup.READS : RouteGroup.WRITES;
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.getWriter().write("{\"type\":\"urn:taskflow:problem:overloaded\",\"title\":\"Service Unavailable\"," +
+                "\"status\":503,\"detail\":\"Server is busy, please retry\",\"error\":\"OVERLOADED\"}");
+    }
+
+    private class ReleaseOnComplete implements AsyncListener {
+
+        private final RouteGroup group;
+        private final long start;
+        private boolean released;
+
+        ReleaseOnComplete(RouteGroup group, long start) {
+            this.group = group;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            HttpServletResponse response = (HttpServletResponse) event.getSuppliedResponse();
+            release(response.getStatus() >= 500);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release(true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release(true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+        private synchronized void release(boolean failed) {
+            if (!released) {
+                released = true;
+                concurrencyLimiter.release(group, start, failed);
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.taskflow.vacation.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Component
+public class ConcurrencyLimiter {
+
+    public enum RouteGroup {
+        AUTH, READS, WRITES
+    }
+
+    private final Map<RouteGroup, GradientLimit> limits = new EnumMap<>(RouteGroup.class);
+    private final Map<RouteGroup, Counter> shed = new EnumMap<>(RouteGroup.class);
+    private final boolean enabled;
+
+    public ConcurrencyLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${concurrency-limit.enabled}") boolean enabled,
+            @Value("${concurrency-limit.auth.initial}") int authInitial,
+            @Value("${concurrency-limit.auth.min}") int authMin,
+            @Value("${concurrency-limit.auth.max}") int authMax,
+            @Value("${concurrency-limit.reads.initial}") int readsInitial,
+            @Value("${concurrency-limit.reads.min}") int readsMin,
+            @Value("${concurrency-limit.reads.max}") int readsMax,
+            @Value("${concurrency-limit.writes.initial}") int writesInitial,
+            @Value("${concurrency-limit.writes.min}") int writesMin,
+            @Value("${concurrency-limit.writes.max}") int writesMax) {
+        this.enabled = enabled;
+        limits.put(RouteGroup.AUTH, new GradientLimit(authInitial, authMin, authMax));
+        limits.put(RouteGroup.READS, new GradientLimit(readsInitial, readsMin, readsMax));
+        limits.put(RouteGroup.WRITES, new GradientLimit(writesInitial, writesMin, writesMax));
+
+        limits.forEach((group, limit) -> {
+            String tag = group.name().toLowerCase();
+            Gauge.builder("http.concurrency.limit", limit, GradientLimit::getLimit)
+                    .tag("group", tag)
+                    .register(meterRegistry);
+            Gauge.builder("http.concurrency.in-flight", limit, GradientLimit::getInFlight)
+                    .tag("group", tag)
+                    .register(meterRegistry);
+            shed.put(group, Counter.builder("http.concurrency.shed")
+                    .tag("group", tag)
+                    .register(meterRegistry));
+        });
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return true if the request may proceed; it must then be completed with
+     * {@link #release} exactly once
+     */
+    public boolean tryAcquire(RouteGroup group) {
+        if (limits.get(group).tryAcquire()) {
+            return true;
+        }
+        shed.get(group).increment();
+        return false;
+    }
+
+    /**
+     * @param failed the request ended in a server error or timeout, which backs the limit off
+     */
+    public void release(RouteGroup group, long startNanos, boolean failed) {
+        GradientLimit limit = limits.get(group);
+        if (failed) {
+            limit.onDropped();
+        } else {
+            limit.onSuccess(System.nanoTime() - startNanos);
+        }
+    }
+}
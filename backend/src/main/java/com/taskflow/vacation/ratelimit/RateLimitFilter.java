@@ -0,0 +1,60 @@
+package com.taskflow.vacation.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String LOGIN_PATH = "/api/auth/login";
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        String path = request.getRequestURI();
+        String ip = request.getRemoteAddr();
+        long retryAfter;
+
+        if (LOGIN_PATH.equals(path)) {
+            retryAfter = rateLimiter.acquireLoginByIp(ip);
+        } else if (path.startsWith("/api/")) {
+            retryAfter = rateLimiter.acquireApiByIp(ip);
+        } else {
+            retryAfter = 0;
+        }
+
+        if (retryAfter > 0) {
+            reject(request, response, retryAfter);
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    /**
+     * Same problem body {@code GlobalExceptionHandler} returns for the per-account
+     * limit, including the {@code instance} Spring MVC fills in from the path.
+     */
+    private void reject(HttpServletRequest request, HttpServletResponse response, long retryAfterSeconds)
+            throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.getWriter().write("{\"type\":\"urn:taskflow:problem:too-many-requests\",\"title\":\"Too Many Requests\"," +
+                "\"status\":429,\"detail\":\"Rate limit exceeded\",\"instance\":\"" + request.getRequestURI() + "\"," +
+                "\"error\":\"TOO_MANY_REQUESTS\"}");
+    }
+}
@@ -0,0 +1,61 @@
+package com.taskflow.vacation.ratelimit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class RateLimiter {
+
+    private final TokenBucketRegistry loginByIp;
+    private final TokenBucketRegistry loginByAccount;
+    private final TokenBucketRegistry apiByIp;
+    private final boolean apiEnabled;
+
+    public RateLimiter(
+            @Value("${rate-limit.max-entries}") int maxEntries,
+            @Value("${rate-limit.login.ip.capacity}") int loginIpCapacity,
+            @Value("${rate-limit.login.ip.refill-per-minute}") int loginIpRefill,
+            @Value("${rate-limit.login.account.capacity}") int loginAccountCapacity,
+            @Value("${rate-limit.login.account.refill-per-minute}") int loginAccountRefill,
+            @Value("${rate-limit.api.enabled}") boolean apiEnabled,
+            @Value("${rate-limit.api.capacity}") int apiCapacity,
+            @Value("${rate-limit.api.refill-per-minute}") int apiRefill) {
+        this.loginByIp = new TokenBucketRegistry(loginIpCapacity, loginIpRefill, maxEntries);
+        this.loginByAccount = new TokenBucketRegistry(loginAccountCapacity, loginAccountRefill, maxEntries);
+        this.apiByIp = new TokenBucketRegistry(apiCapacity, apiRefill, maxEntries);
+        this.apiEnabled = apiEnabled;
+    }
+
+    /**
+     * @return 0 if allowed, otherwise the number of seconds the client should wait
+     */
+    public long acquireLoginByIp(String ip) {
+        return toSeconds(loginByIp.tryConsume(ip));
+    }
+
+    public long acquireLoginByAccount(String email) {
+        return toSeconds(loginByAccount.tryConsume(email.toLowerCase(Locale.ROOT)));
+    }
+
+    public long acquireApiByIp(String ip) {
+        return apiEnabled ? toSeconds(apiByIp.tryConsume(ip)) : 0;
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval-ms}")
+    public void evictIdleBuckets() {
+        loginByIp.evictIdle();
+        loginByAccount.evictIdle();
+        apiByIp.evictIdle();
+    }
+
+    private long toSeconds(long waitNanos) {
+        if (waitNanos == 0) {
+            return 0;
+        }
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
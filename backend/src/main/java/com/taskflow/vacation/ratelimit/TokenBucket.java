@@ -0,0 +1,49 @@
+package com.taskflow.vacation.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free token bucket. The bucket state is an immutable snapshot swapped
+ * with compare-and-set, so refill and consumption never block.
+ */
+class TokenBucket {
+
+    private record State(double tokens, long lastRefillNanos) {
+    }
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final AtomicReference<State> state;
+
+    TokenBucket(double capacity, double tokensPerNano, long nowNanos) {
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerNano;
+        this.state = new AtomicReference<>(new State(capacity, nowNanos));
+    }
+
+    /**
+     * @return 0 if a token was taken, otherwise the nanoseconds until one becomes available
+     */
+    long tryConsume(long nowNanos) {
+        while (true) {
+            State current = state.get();
+            double available = refill(current, nowNanos);
+            if (available < 1.0) {
+                return (long) Math.ceil((1.0 - available) / tokensPerNano);
+            }
+            State next = new State(available - 1.0, Math.max(nowNanos, current.lastRefillNanos()));
+            if (state.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    boolean isFull(long nowNanos) {
+        return refill(state.get(), nowNanos) >= capacity;
+    }
+
+    private double refill(State current, long nowNanos) {
+        long elapsed = Math.max(0, nowNanos - current.lastRefillNanos());
+        return Math.min(capacity, current.tokens() + elapsed * tokensPerNano);
+    }
+}
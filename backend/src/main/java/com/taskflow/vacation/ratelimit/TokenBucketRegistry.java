@@ -0,0 +1,71 @@
+package com.taskflow.vacation.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded map of token buckets keyed by client identifier. A bucket that has
+ * refilled completely carries no state worth keeping, so it is evicted. When
+ * the map is full, unseen keys are denied until a sweep frees room rather
+ * than sharing a bucket, so a flood of new keys cannot drain the allowance of
+ * clients that are already tracked. Sweeps triggered by requests run at most
+ * once per sweep interval, so a full map never costs a scan per request.
+ */
+class TokenBucketRegistry {
+
+    private static final long DEFAULT_SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final int maxEntries;
+    private final long sweepIntervalNanos;
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweepNanos;
+
+    TokenBucketRegistry(int capacity, int refillPerMinute, int maxEntries) {
+        this(capacity, refillPerMinute, maxEntries, DEFAULT_SWEEP_INTERVAL_NANOS);
+    }
+
+    TokenBucketRegistry(int capacity, int refillPerMinute, int maxEntries, long sweepIntervalNanos) {
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        this.maxEntries = maxEntries;
+        this.sweepIntervalNanos = sweepIntervalNanos;
+        this.lastSweepNanos = new AtomicLong(System.nanoTime() - sweepIntervalNanos);
+    }
+
+    /**
+     * @return 0 if a token was taken, otherwise the nanoseconds to wait
+     */
+    long tryConsume(String key) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxEntries && !(trySweep(now) && buckets.size() < maxEntries)) {
+                return Math.max(1, lastSweepNanos.get() + sweepIntervalNanos - now);
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(capacity, tokensPerNano, now));
+        }
+        return bucket.tryConsume(now);
+    }
+
+    void evictIdle() {
+        long now = System.nanoTime();
+        lastSweepNanos.set(now);
+        buckets.entrySet().removeIf(e -> e.getValue().isFull(now));
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private boolean trySweep(long now) {
+        long last = lastSweepNanos.get();
+        if (now - last < sweepIntervalNanos || !lastSweepNanos.compareAndSet(last, now)) {
+            return false;
+        }
+        buckets.entrySet().removeIf(e -> e.getValue().isFull(now));
+        return true;
+    }
+}
@@ -0,0 +1,50 @@
+package com.taskflow.vacation.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Lets the regular {@link VacationRequestRepository} methods read archived
+ * years. Inside {@link #include(Supplier)} every SELECT against
+ * {@code vacation_requests} is redirected to the {@code vacation_requests_all}
+ * view, which unions the live partitions with the archived ones.
+ */
+@Component
+public class ArchivedVacationReads implements StatementInspector {
+
+    private static final Pattern LIVE_TABLE = Pattern.compile("\\bvacation_requests\\b");
+    private static final String ALL_VIEW = "vacation_requests_all";
+
+    private final ThreadLocal<Boolean> included = new ThreadLocal<>();
+
+    private volatile boolean available;
+
+    public <T> T include(Supplier<T> reads) {
+        Boolean previous = included.get();
+        included.set(Boolean.TRUE);
+        try {
+            return reads.get();
+        } finally {
+            if (previous == null) {
+                included.remove();
+            } else {
+                included.set(previous);
+            }
+        }
+    }
+
+    public void setAvailable(boolean available) {
+        this.available = available;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (!available || included.get() == null || !sql.regionMatches(true, 0, "select", 0, 6)) {
+            return sql;
+        }
+        return LIVE_TABLE.matcher(sql).replaceAll(ALL_VIEW);
+    }
+}
@@ -0,0 +1,48 @@
+package com.taskflow.vacation.repository;
+
+import com.taskflow.vacation.entity.NotificationOutbox;
+import com.taskflow.vacation.entity.OutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    @Query(value = "SELECT * FROM notification_outbox " +
+                   "WHERE status IN ('PENDING', 'SENDING') AND next_attempt_at <= :now " +
+                   "ORDER BY id " +
+                   "LIMIT :limit " +
+                   "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<NotificationOutbox> claimBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE NotificationOutbox n SET n.status = 'SENDING', n.nextAttemptAt = :leaseUntil WHERE n.id IN :ids")
+    int markSending(@Param("ids") Collection<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("UPDATE NotificationOutbox n SET n.status = 'SENT', n.sentAt = :sentAt, n.lastError = NULL WHERE n.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Query("UPDATE NotificationOutbox n SET n.status = :status, n.attempts = :attempts, " +
+           "n.lastError = :lastError, n.nextAttemptAt = :nextAttemptAt WHERE n.id = :id")
+    int recordFailedAttempt(@Param("id") Long id,
+                            @Param("status") OutboxStatus status,
+                            @Param("attempts") int attempts,
+                            @Param("lastError") String lastError,
+                            @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    @Modifying
+    @Query(value = "DELETE FROM notification_outbox WHERE id IN (" +
+                   "SELECT id FROM notification_outbox " +
+                   "WHERE status IN ('SENT', 'FAILED') AND created_at < :cutoff " +
+                   "LIMIT :limit)", nativeQuery = true)
+    int deleteFinishedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
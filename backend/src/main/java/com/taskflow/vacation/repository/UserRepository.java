@@ -1,13 +1,51 @@
 package com.taskflow.vacation.repository;
 
+import com.taskflow.vacation.config.CacheConfig;
 import com.taskflow.vacation.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM users)", nativeQuery = true)
+    boolean existsAny();
+
+    @QueryHints({
+        @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = CacheConfig.TEAM_ROSTERS_REGION)
+    })
+    List<User> findByManager_Id(Long managerId);
+    boolean existsByManager_IdInAndIdNotIn(Collection<Long> managerIds, Collection<Long> ids);
+
+    @Query("SELECT u.email FROM User u WHERE u.id IN :ids")
+    List<String> findEmailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.manager = :manager WHERE u.manager.id IN :ids AND u.id NOT IN :ids")
+    int reassignReports(@Param("ids") Collection<Long> departingIds, @Param("manager") User newManager);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.active = false WHERE u.id IN :ids")
+    int deactivateAll(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.manager = null WHERE u.id IN :ids")
+    int clearManagers(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM User u WHERE u.id IN :ids")
+    int deleteAllByIds(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
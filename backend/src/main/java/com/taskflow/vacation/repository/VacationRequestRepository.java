@@ -1,20 +1,64 @@
 package com.taskflow.vacation.repository;
 
+import com.taskflow.vacation.dto.DateRange;
 import com.taskflow.vacation.entity.VacationRequest;
 import com.taskflow.vacation.entity.User;
+import com.taskflow.vacation.entity.VacationStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface VacationRequestRepository extends JpaRepository<VacationRequest, Long> {
     
+    @Override
+    @EntityGraph(attributePaths = {"user", "user.manager"})
+    List<VacationRequest> findAll();
+    
+    @EntityGraph(attributePaths = {"user", "user.manager"})
     List<VacationRequest> findByUser(User user);
     
+    @EntityGraph(attributePaths = {"user", "user.manager"})
+    List<VacationRequest> findByUser_Manager_Id(Long managerId);
+    
+    long countByStatus(VacationStatus status);
+    
+    long countByUser_Manager_IdAndStatus(Long managerId, VacationStatus status);
+    
+    long countByUser_IdAndStatus(Long userId, VacationStatus status);
+    
+    @Query("SELECT v FROM VacationRequest v WHERE v.status = 'APPROVED' " +
+           "AND v.startDate <= :to AND v.endDate >= :from")
+    List<VacationRequest> findApprovedBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+    
+    @Query("SELECT v FROM VacationRequest v WHERE v.user.manager.id = :managerId " +
+           "AND v.status = 'APPROVED' " +
+           "AND v.startDate <= :to AND v.endDate >= :from")
+    List<VacationRequest> findApprovedForTeamBetween(
+        @Param("managerId") Long managerId,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to
+    );
+    
+    boolean existsByUser_Id(Long userId);
+    
+    boolean existsByUser_IdIn(Collection<Long> userIds);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE VacationRequest v SET v.status = :status WHERE v.user.id IN :userIds AND v.status = 'PENDING'")
+    int updatePendingStatus(@Param("userIds") Collection<Long> userIds, @Param("status") VacationStatus status);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM VacationRequest v WHERE v.user.id IN :userIds AND v.status = 'PENDING'")
+    int deletePending(@Param("userIds") Collection<Long> userIds);
+    
     @Query("SELECT v FROM VacationRequest v WHERE v.user.id != :userId " +
            "AND v.status = 'APPROVED' " +
            "AND ((v.startDate <= :endDate AND v.endDate >= :startDate))")
@@ -23,4 +67,15 @@ public interface VacationRequestRepository extends JpaRepository<VacationRequest
         @Param("startDate") LocalDate startDate,
         @Param("endDate") LocalDate endDate
     );
+    
+    @Query("SELECT new com.taskflow.vacation.dto.DateRange(v.startDate, v.endDate) FROM VacationRequest v " +
+           "WHERE v.startDate <= :to AND v.endDate >= :from " +
+           "AND ((v.user.id <> :userId AND v.status = 'APPROVED') " +
+           "OR (v.user.id = :userId AND v.status NOT IN ('REJECTED', 'EXPIRED'))) " +
+           "ORDER BY v.startDate")
+    List<DateRange> findBookedRanges(
+        @Param("userId") Long userId,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to
+    );
 }
\ No newline at end of file
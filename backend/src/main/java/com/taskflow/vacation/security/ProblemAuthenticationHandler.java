@@ -0,0 +1,41 @@
+package com.taskflow.vacation.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.security.web.access.AccessDeniedHandler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Answers requests refused by the security filter chain with the same problem
+ * details the controllers return, instead of forwarding them to {@code /error}.
+ */
+@Component
+public class ProblemAuthenticationHandler implements AuthenticationEntryPoint, AccessDeniedHandler {
+
+    @Override
+    public void commence(HttpServletRequest request, HttpServletResponse response,
+                         AuthenticationException authException) throws IOException {
+        write(response, HttpStatus.UNAUTHORIZED, "UNAUTHORIZED", "Authentication is required");
+    }
+
+    @Override
+    public void handle(HttpServletRequest request, HttpServletResponse response,
+                       AccessDeniedException accessDeniedException) throws IOException {
+        write(response, HttpStatus.FORBIDDEN, "ACCESS_DENIED", "You are not allowed to perform this operation");
+    }
+
+    private void write(HttpServletResponse response, HttpStatus status, String error, String detail) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.getWriter().write("{\"type\":\"urn:taskflow:problem:" + error.toLowerCase().replace('_', '-') + "\"," +
+                "\"title\":\"" + status.getReasonPhrase() + "\",\"status\":" + status.value() + "," +
+                "\"detail\":\"" + detail + "\",\"error\":\"" + error + "\"}");
+    }
+}
@@ -0,0 +1,161 @@
+package com.taskflow.vacation.security;
+
+import com.taskflow.vacation.entity.RevokedToken;
+import com.taskflow.vacation.repository.RevokedTokenRepository;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Revoked JWTs. Revocations are stored in {@code revoked_tokens} and mirrored
+ * in memory, so checking a token never touches the database: a Bloom filter
+ * answers "definitely not revoked" for almost every request and an exact map
+ * confirms the rest. Entries are dropped once the tokens they cover have
+ * expired. Other nodes pick up new rows on the next sync, which re-reads a
+ * window of recent revocations so rows committed late are not missed, and
+ * the purge reloads everything still unexpired as a backstop.
+ * <p>
+ * Two kinds of keys are stored: {@code jti:<id>} revokes one token (logout),
+ * {@code sub:<email>} revokes every token issued to that user up to the
+ * revocation time (deletion, deactivation, role or email change).
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final String TOKEN_PREFIX = "jti:";
+    private static final String SUBJECT_PREFIX = "sub:";
+
+    private record Revocation(long revokedAtMillis, long expiresAtMillis) {
+    }
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Value("${jwt.expiration}")
+    private Long expiration;
+
+    @Value("${jwt.revocation.expected-entries}")
+    private int expectedEntries;
+
+    @Value("${jwt.revocation.false-positive-rate}")
+    private double falsePositiveRate;
+
+    @Value("${jwt.revocation.sync-overlap-ms}")
+    private long syncOverlapMs;
+
+    private final Map<String, Revocation> revocations = new ConcurrentHashMap<>();
+    private final AtomicReference<BloomFilter> filter = new AtomicReference<>();
+    private volatile Instant lastSyncedAt;
+
+    public boolean isRevoked(Claims claims) {
+        return isRevoked(TOKEN_PREFIX + claims.getId(), claims.getIssuedAt())
+                || isRevoked(SUBJECT_PREFIX + claims.getSubject(), claims.getIssuedAt());
+    }
+
+    private boolean isRevoked(String key, Date issuedAt) {
+        BloomFilter current = filter.get();
+        if (current != null && !current.mightContain(key)) {
+            return false;
+        }
+        Revocation revocation = revocations.get(key);
+        if (revocation == null || revocation.expiresAtMillis() < System.currentTimeMillis()) {
+            return false;
+        }
+        if (key.startsWith(TOKEN_PREFIX) || issuedAt == null) {
+            return true;
+        }
+        // iat only has whole seconds, so a token issued in the same second as the
+        // revocation cannot be ordered against it. Such tokens are treated as
+        // issued after it and stay valid; otherwise a login right after a
+        // revocation would hand out a token that is rejected for its whole life.
+        long revokedAtSecond = revocation.revokedAtMillis() / 1000 * 1000;
+        return issuedAt.getTime() < revokedAtSecond;
+    }
+
+    public void revokeToken(Claims claims) {
+        if (claims.getId() != null) {
+            persist(TOKEN_PREFIX + claims.getId(), Instant.now(), claims.getExpiration().toInstant());
+        }
+    }
+
+    public void revokeAllForUser(String email) {
+        Instant now = Instant.now();
+        persist(SUBJECT_PREFIX + email, now, now.plusMillis(expiration));
+    }
+
+    public void revokeAllForUsers(Collection<String> emails) {
+        emails.forEach(this::revokeAllForUser);
+    }
+
+    private void persist(String key, Instant revokedAt, Instant expiresAt) {
+        RevokedToken saved = revokedTokenRepository.save(new RevokedToken(null, key, revokedAt, expiresAt));
+        Runnable remember = () -> remember(saved);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remember.run();
+                }
+            });
+        } else {
+            remember.run();
+        }
+    }
+
+    private void remember(RevokedToken token) {
+        revocations.merge(token.getTokenKey(),
+                new Revocation(token.getRevokedAt().toEpochMilli(), token.getExpiresAt().toEpochMilli()),
+                (a, b) -> new Revocation(Math.max(a.revokedAtMillis(), b.revokedAtMillis()),
+                        Math.max(a.expiresAtMillis(), b.expiresAtMillis())));
+        BloomFilter current = filter.get();
+        if (current != null) {
+            current.add(token.getTokenKey());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms}")
+    public void syncFromDatabase() {
+        Instant now = Instant.now();
+        if (lastSyncedAt == null) {
+            revokedTokenRepository.findByExpiresAtAfter(now).forEach(this::remember);
+        } else {
+            // revoked_at is stamped before commit, so a slow transaction can
+            // surface after a later sync; re-reading the overlap catches it.
+            revokedTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(lastSyncedAt.minusMillis(syncOverlapMs), now)
+                    .forEach(this::remember);
+        }
+        lastSyncedAt = now;
+        if (filter.get() == null) {
+            rebuildFilter();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval-ms}", initialDelayString = "${jwt.revocation.purge-interval-ms}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        revokedTokenRepository.deleteExpired(now);
+        revocations.values().removeIf(r -> r.expiresAtMillis() < now.toEpochMilli());
+        revokedTokenRepository.findByExpiresAtAfter(now).forEach(this::remember);
+        rebuildFilter();
+    }
+
+    private void rebuildFilter() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, revocations.size() * 2), falsePositiveRate);
+        revocations.keySet().forEach(rebuilt::add);
+        filter.set(rebuilt);
+        // Keys remembered while the new filter was being filled may have missed it.
+        revocations.keySet().forEach(rebuilt::add);
+    }
+}
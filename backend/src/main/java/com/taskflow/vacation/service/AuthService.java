@@ -3,6 +3,7 @@ package com.taskflow.vacation.service;
 import com.taskflow.vacation.dto.AuthResponse;
 import com.taskflow.vacation.dto.LoginRequest;
 import com.taskflow.vacation.entity.User;
+import com.taskflow.vacation.exception.NotFoundException;
 import com.taskflow.vacation.repository.UserRepository;
 import com.taskflow.vacation.security.JwtUtil;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,7 +32,7 @@ public class AuthService {
         String token = jwtUtil.generateToken(request.getEmail());
         
         User user = userRepository.findByEmail(request.getEmail())
-            .orElseThrow(() -> new RuntimeException("User not found"));
+            .orElseThrow(() -> new NotFoundException("USER_NOT_FOUND", "User not found"));
 
         return new AuthResponse(token, user.getId(), user.getEmail(), user.getName(), user.getRole());
     }
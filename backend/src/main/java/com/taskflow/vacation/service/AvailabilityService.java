@@ -0,0 +1,163 @@
+package com.taskflow.vacation.service;
+
+import com.taskflow.vacation.dto.DateRange;
+import com.taskflow.vacation.entity.Role;
+import com.taskflow.vacation.entity.User;
+import com.taskflow.vacation.exception.ForbiddenOperationException;
+import com.taskflow.vacation.exception.InvalidRequestException;
+import com.taskflow.vacation.exception.NotFoundException;
+import com.taskflow.vacation.repository.UserRepository;
+import com.taskflow.vacation.repository.VacationRequestRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Finds the earliest windows a user could book without hitting the overlap
+ * check in {@link VacationService#createVacation}. All bookings in the horizon
+ * are read once, sorted by start date, and swept to find the free gaps; each
+ * gap is filled with back-to-back windows until enough have been found.
+ */
+@Service
+public class AvailabilityService {
+
+    @Autowired
+    private VacationRequestRepository vacationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${availability.default-horizon-days}")
+    private int defaultHorizonDays;
+
+    @Value("${availability.max-horizon-days}")
+    private int maxHorizonDays;
+
+    @Value("${availability.max-results}")
+    private int maxResults;
+
+    @Value("${availability.business-days-only}")
+    private boolean businessDaysOnly;
+
+    @Value("${availability.weekend-days}")
+    private DayOfWeek[] weekendDays;
+
+    public List<DateRange> findAvailableWindows(Long userId, int days, int count, LocalDate from, Integer horizonDays) {
+        int horizon = horizonDays != null ? horizonDays : defaultHorizonDays;
+        int limit = Math.min(count, maxResults);
+
+        if (days < 1 || limit < 1) {
+            throw new InvalidRequestException("INVALID_SEARCH", "Duration and count must be positive");
+        }
+        if (horizon < 1 || horizon > maxHorizonDays) {
+            throw new InvalidRequestException("INVALID_SEARCH", "Horizon must be between 1 and " + maxHorizonDays + " days");
+        }
+
+        LocalDate start = from != null ? from : LocalDate.now();
+        LocalDate horizonEnd;
+        try {
+            horizonEnd = start.plusDays(horizon).minusDays(1);
+        } catch (DateTimeException e) {
+            throw new InvalidRequestException("INVALID_SEARCH", "Search start is out of range");
+        }
+
+        User user = resolveUser(userId);
+        List<DateRange> booked = vacationRepository.findBookedRanges(user.getId(), start, horizonEnd);
+        Set<DayOfWeek> weekend = EnumSet.noneOf(DayOfWeek.class);
+        weekend.addAll(Arrays.asList(weekendDays));
+
+        List<DateRange> windows = new ArrayList<>();
+        LocalDate cursor = start;
+
+        for (DateRange range : booked) {
+            if (windows.size() == limit) {
+                return windows;
+            }
+            if (range.getStartDate().isAfter(cursor)) {
+                addFits(windows, limit, cursor, range.getStartDate().minusDays(1), days, weekend);
+            }
+            if (!range.getEndDate().isBefore(cursor)) {
+                cursor = range.getEndDate().plusDays(1);
+            }
+        }
+
+        if (windows.size() < limit && !cursor.isAfter(horizonEnd)) {
+            addFits(windows, limit, cursor, horizonEnd, days, weekend);
+        }
+
+        return windows;
+    }
+
+    private void addFits(List<DateRange> windows, int limit, LocalDate gapStart, LocalDate gapEnd,
+                         int days, Set<DayOfWeek> weekend) {
+        LocalDate next = gapStart;
+        while (windows.size() < limit) {
+            DateRange window = earliestFit(next, gapEnd, days, weekend);
+            if (window == null) {
+                return;
+            }
+            windows.add(window);
+            next = window.getEndDate().plusDays(1);
+        }
+    }
+
+    private DateRange earliestFit(LocalDate gapStart, LocalDate gapEnd, int days, Set<DayOfWeek> weekend) {
+        if (!businessDaysOnly) {
+            if (ChronoUnit.DAYS.between(gapStart, gapEnd) < days - 1L) {
+                return null;
+            }
+            return new DateRange(gapStart, gapStart.plusDays(days - 1L));
+        }
+
+        LocalDate first = gapStart;
+        while (!first.isAfter(gapEnd) && weekend.contains(first.getDayOfWeek())) {
+            first = first.plusDays(1);
+        }
+
+        LocalDate end = first;
+        int counted = 1;
+        while (counted < days && end.isBefore(gapEnd)) {
+            end = end.plusDays(1);
+            if (!weekend.contains(end.getDayOfWeek())) {
+                counted++;
+            }
+        }
+
+        return counted == days && !end.isAfter(gapEnd) ? new DateRange(first, end) : null;
+    }
+
+    private User resolveUser(Long userId) {
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        User currentUser = userRepository.findByEmail(email)
+                .orElseThrow(() -> new NotFoundException("USER_NOT_FOUND", "User not found"));
+
+        if (userId == null || userId.equals(currentUser.getId())) {
+            return currentUser;
+        }
+
+        if (currentUser.getRole() == Role.COLLABORATOR) {
+            throw new ForbiddenOperationException("AVAILABILITY_FORBIDDEN", "You can only search availability for yourself");
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException("USER_NOT_FOUND", "User not found"));
+
+        if (currentUser.getRole() == Role.MANAGER &&
+            (user.getManager() == null || !user.getManager().getId().equals(currentUser.getId()))) {
+            throw new ForbiddenOperationException("AVAILABILITY_FORBIDDEN", "You can only search availability for your team");
+        }
+
+        return user;
+    }
+}
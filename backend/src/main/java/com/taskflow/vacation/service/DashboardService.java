@@ -0,0 +1,199 @@
+package com.taskflow.vacation.service;
+
+import com.taskflow.vacation.dto.CoverageSummary;
+import com.taskflow.vacation.dto.DashboardResponse;
+import com.taskflow.vacation.dto.UserResponse;
+import com.taskflow.vacation.dto.VacationResponse;
+import com.taskflow.vacation.entity.Role;
+import com.taskflow.vacation.entity.User;
+import com.taskflow.vacation.entity.VacationRequest;
+import com.taskflow.vacation.entity.VacationStatus;
+import com.taskflow.vacation.exception.NotFoundException;
+import com.taskflow.vacation.exception.ServiceUnavailableException;
+import com.taskflow.vacation.repository.UserRepository;
+import com.taskflow.vacation.repository.VacationRequestRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Builds everything the dashboard page needs in one response. The current
+ * user is resolved on the request thread; the independent reads then run in
+ * parallel on the bounded dashboard executor.
+ */
+@Service
+public class DashboardService {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VacationRequestRepository vacationRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private VacationService vacationService;
+
+    @Autowired
+    @Qualifier("dashboardExecutor")
+    private Executor dashboardExecutor;
+
+    @Value("${dashboard.coverage-days}")
+    private int coverageDays;
+
+    @Value("${dashboard.timeout-ms}")
+    private long timeoutMs;
+
+    /**
+     * @throws TimeoutException if the reads take longer than {@code dashboard.timeout-ms}
+     */
+    public DashboardResponse getDashboard() throws TimeoutException {
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        User currentUser = userRepository.findByEmail(email)
+                .orElseThrow(() -> new NotFoundException("USER_NOT_FOUND", "User not found"));
+
+        LocalDate from = LocalDate.now();
+        LocalDate to = from.plusDays(coverageDays - 1L);
+
+        CompletableFuture<List<UserResponse>> team = CompletableFuture.supplyAsync(
+                () -> findTeam(currentUser).stream().map(userService::mapToResponse).collect(Collectors.toList()),
+                dashboardExecutor);
+        CompletableFuture<List<VacationResponse>> vacations = CompletableFuture.supplyAsync(
+                () -> vacationService.findVisibleVacations(currentUser).stream()
+                        .map(vacationService::mapToResponse).collect(Collectors.toList()),
+                dashboardExecutor);
+        CompletableFuture<Long> pendingCount = CompletableFuture.supplyAsync(
+                () -> countPending(currentUser), dashboardExecutor);
+        CompletableFuture<List<VacationRequest>> approved = CompletableFuture.supplyAsync(
+                () -> findApprovedForTeam(currentUser, from, to), dashboardExecutor);
+
+        CompletableFuture<?>[] parts = {team, vacations, pendingCount, approved};
+        try {
+            CompletableFuture.allOf(parts).get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            cancel(parts);
+            throw e;
+        } catch (ExecutionException e) {
+            cancel(parts);
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            cancel(parts);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("WORKLOAD_INTERRUPTED", "The request was interrupted, please retry");
+        }
+
+        return new DashboardResponse(
+                userService.mapToResponse(currentUser),
+                team.join(),
+                vacations.join(),
+                pendingCount.join(),
+                summarizeCoverage(team.join().size(), approved.join(), from, to)
+        );
+    }
+
+    /**
+     * Reads still queued never start, so a slow or failed dashboard does not
+     * keep claiming executor threads and connections. Reads already running
+     * cannot be interrupted mid-query and finish on their own.
+     */
+    private static void cancel(CompletableFuture<?>[] parts) {
+        for (CompletableFuture<?> part : parts) {
+            part.cancel(false);
+        }
+    }
+
+    /**
+     * Rethrows what the failed read threw, so business and data access errors
+     * reach the exception handler as themselves. The suppliers cannot throw
+     * checked exceptions, so the last case is a bug and stays a 500.
+     */
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new CompletionException(cause);
+    }
+
+    private List<User> findTeam(User currentUser) {
+        if (currentUser.getRole() == Role.ADMIN) {
+            return userRepository.findAll();
+        } else if (currentUser.getRole() == Role.MANAGER) {
+            return userRepository.findByManager_Id(currentUser.getId());
+        } else if (currentUser.getManager() != null) {
+            return userRepository.findByManager_Id(currentUser.getManager().getId());
+        }
+        return List.of(currentUser);
+    }
+
+    private long countPending(User currentUser) {
+        if (currentUser.getRole() == Role.ADMIN) {
+            return vacationRepository.countByStatus(VacationStatus.PENDING);
+        } else if (currentUser.getRole() == Role.MANAGER) {
+            return vacationRepository.countByUser_Manager_IdAndStatus(currentUser.getId(), VacationStatus.PENDING);
+        }
+        return vacationRepository.countByUser_IdAndStatus(currentUser.getId(), VacationStatus.PENDING);
+    }
+
+    private List<VacationRequest> findApprovedForTeam(User currentUser, LocalDate from, LocalDate to) {
+        if (currentUser.getRole() == Role.ADMIN) {
+            return vacationRepository.findApprovedBetween(from, to);
+        } else if (currentUser.getRole() == Role.MANAGER) {
+            return vacationRepository.findApprovedForTeamBetween(currentUser.getId(), from, to);
+        } else if (currentUser.getManager() != null) {
+            return vacationRepository.findApprovedForTeamBetween(currentUser.getManager().getId(), from, to);
+        }
+        return vacationRepository.findByUser(currentUser).stream()
+                .filter(v -> v.getStatus() == VacationStatus.APPROVED)
+                .filter(v -> !v.getStartDate().isAfter(to) && !v.getEndDate().isBefore(from))
+                .collect(Collectors.toList());
+    }
+
+    private CoverageSummary summarizeCoverage(int teamSize, List<VacationRequest> approved,
+                                              LocalDate from, LocalDate to) {
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        List<Set<Long>> absentByDay = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            absentByDay.add(new HashSet<>());
+        }
+
+        for (VacationRequest vacation : approved) {
+            LocalDate start = vacation.getStartDate().isBefore(from) ? from : vacation.getStartDate();
+            LocalDate end = vacation.getEndDate().isAfter(to) ? to : vacation.getEndDate();
+            for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+                absentByDay.get((int) ChronoUnit.DAYS.between(from, day)).add(vacation.getUser().getId());
+            }
+        }
+
+        int peakAbsent = 0;
+        LocalDate peakDate = null;
+        for (int i = 0; i < days; i++) {
+            if (absentByDay.get(i).size() > peakAbsent) {
+                peakAbsent = absentByDay.get(i).size();
+                peakDate = from.plusDays(i);
+            }
+        }
+
+        return new CoverageSummary(from, to, teamSize, absentByDay.get(0).size(), peakAbsent, peakDate);
+    }
+}
@@ -19,7 +19,7 @@ public class DataInitService implements CommandLineRunner {
 
     @Override
     public void run(String... args) {
-        if (userRepository.count() == 0) {
+        if (!userRepository.existsAny()) {
             User admin = new User();
             admin.setEmail("admin@taskflow.com");
             admin.setPassword(passwordEncoder.encode("admin123"));
@@ -0,0 +1,193 @@
+package com.taskflow.vacation.service;
+
+import com.taskflow.vacation.entity.NotificationOutbox;
+import com.taskflow.vacation.entity.OutboxStatus;
+import com.taskflow.vacation.repository.NotificationOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the notification outbox. Each run claims a batch with
+ * {@code FOR UPDATE SKIP LOCKED} in a short transaction that marks the rows
+ * SENDING under a lease, so several instances can dispatch concurrently and no
+ * lock or connection is held while talking to SMTP. All events for the same
+ * recipient are folded into a single digest mail; the outcome is written back
+ * in a second short transaction and failed deliveries are rescheduled with
+ * exponential backoff. Rows whose lease runs out (e.g. the node died while
+ * sending) are claimed again. SENT and FAILED rows are purged once they are
+ * older than {@code notifications.retention-days}.
+ */
+@Service
+public class NotificationDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private JavaMailSender mailSender;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // Checked at runtime rather than with @ConditionalOnProperty, which the AOT build would freeze into the image.
+    @Value("${notifications.enabled}")
+    private boolean enabled;
+
+    @Value("${notifications.from}")
+    private String from;
+
+    @Value("${notifications.batch-size}")
+    private int batchSize;
+
+    @Value("${notifications.max-attempts}")
+    private int maxAttempts;
+
+    @Value("${notifications.backoff-base-ms}")
+    private long backoffBaseMs;
+
+    @Value("${notifications.backoff-max-ms}")
+    private long backoffMaxMs;
+
+    @Value("${notifications.lease-ms}")
+    private long leaseMs;
+
+    @Value("${notifications.retention-days}")
+    private int retentionDays;
+
+    @Value("${notifications.purge-chunk-size}")
+    private int purgeChunkSize;
+
+    @Scheduled(fixedDelayString = "${notifications.dispatch-interval-ms}")
+    public void dispatch() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutbox> batch = transactionTemplate.execute(status -> claim(now));
+        if (batch == null || batch.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<NotificationOutbox>> byRecipient = batch.stream()
+                .collect(Collectors.groupingBy(NotificationOutbox::getRecipientEmail,
+                        LinkedHashMap::new, Collectors.toList()));
+
+        List<Long> sent = new ArrayList<>();
+        List<NotificationOutbox> failed = new ArrayList<>();
+        for (Map.Entry<String, List<NotificationOutbox>> entry : byRecipient.entrySet()) {
+            List<NotificationOutbox> events = entry.getValue();
+            try {
+                mailSender.send(buildDigest(entry.getKey(), events));
+                events.forEach(e -> sent.add(e.getId()));
+            } catch (MailException ex) {
+                log.warn("Failed to deliver {} notification(s) to {}: {}", events.size(), entry.getKey(), ex.getMessage());
+                events.forEach(e -> {
+                    scheduleRetry(e, now, ex);
+                    failed.add(e);
+                });
+            }
+        }
+
+        // The claimed entities are detached by now; write the outcome with
+        // bulk updates instead of merging (a SELECT and an UPDATE per row).
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sent.isEmpty()) {
+                outboxRepository.markSent(sent, now);
+            }
+            failed.forEach(e -> outboxRepository.recordFailedAttempt(
+                    e.getId(), e.getStatus(), e.getAttempts(), e.getLastError(), e.getNextAttemptAt()));
+        });
+    }
+
+    /**
+     * Runs even with notifications disabled: events are still written then,
+     * so the table would otherwise only grow. Deletes in chunks, each in its
+     * own transaction, to keep locks and WAL bursts short.
+     */
+    @Scheduled(cron = "${notifications.purge-cron}")
+    public int purgeFinished() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int purged = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status ->
+                    outboxRepository.deleteFinishedBefore(cutoff, purgeChunkSize));
+            if (deleted == null || deleted == 0) {
+                break;
+            }
+            purged += deleted;
+            if (deleted < purgeChunkSize) {
+                break;
+            }
+        }
+        if (purged > 0) {
+            log.info("Purged {} delivered or failed notifications older than {} days", purged, retentionDays);
+        }
+        return purged;
+    }
+
+    private List<NotificationOutbox> claim(LocalDateTime now) {
+        List<NotificationOutbox> batch = outboxRepository.claimBatch(now, batchSize);
+        if (!batch.isEmpty()) {
+            outboxRepository.markSending(batch.stream().map(NotificationOutbox::getId).toList(),
+                    now.plusNanos(leaseMs * 1_000_000L));
+        }
+        return batch;
+    }
+
+    private SimpleMailMessage buildDigest(String recipient, List<NotificationOutbox> events) {
+        SimpleMailMessage mail = new SimpleMailMessage();
+        mail.setFrom(from);
+        mail.setTo(recipient);
+        mail.setSubject(events.size() == 1
+                ? "Vacation update"
+                : String.format("%d vacation updates", events.size()));
+
+        StringBuilder body = new StringBuilder();
+        body.append("Hello ").append(events.get(0).getRecipientName()).append(",\n\n");
+        for (NotificationOutbox event : events) {
+            body.append("- ").append(event.getMessage()).append('\n');
+        }
+        mail.setText(body.toString());
+        return mail;
+    }
+
+    private void scheduleRetry(NotificationOutbox event, LocalDateTime now, MailException ex) {
+        int attempts = event.getAttempts() + 1;
+        event.setAttempts(attempts);
+        event.setLastError(truncate(ex.getMessage()));
+
+        if (attempts >= maxAttempts) {
+            event.setStatus(OutboxStatus.FAILED);
+            return;
+        }
+
+        event.setStatus(OutboxStatus.PENDING);
+        long delay = Math.min(backoffMaxMs, backoffBaseMs << Math.min(attempts - 1, 20));
+        event.setNextAttemptAt(now.plusNanos(delay * 1_000_000L));
+    }
+
+    private String truncate(String message) {
+        if (message == null || message.length() <= 1000) {
+            return message;
+        }
+        return message.substring(0, 1000);
+    }
+}
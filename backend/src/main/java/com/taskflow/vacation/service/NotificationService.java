@@ -0,0 +1,57 @@
+package com.taskflow.vacation.service;
+
+import com.taskflow.vacation.entity.NotificationOutbox;
+import com.taskflow.vacation.entity.NotificationType;
+import com.taskflow.vacation.entity.User;
+import com.taskflow.vacation.entity.VacationRequest;
+import com.taskflow.vacation.repository.NotificationOutboxRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Writes notification events to the outbox table. Must be called inside the
+ * transaction that changes the vacation status so both commit or roll back together.
+ */
+@Service
+public class NotificationService {
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void vacationRequested(VacationRequest vacation) {
+        User manager = vacation.getUser().getManager();
+        if (manager == null) {
+            return;
+        }
+        enqueue(manager, NotificationType.VACATION_REQUESTED, vacation,
+                String.format("%s requested vacation from %s to %s.",
+                        vacation.getUser().getName(), vacation.getStartDate(), vacation.getEndDate()));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void vacationApproved(VacationRequest vacation) {
+        enqueue(vacation.getUser(), NotificationType.VACATION_APPROVED, vacation,
+                String.format("Your vacation from %s to %s was approved.",
+                        vacation.getStartDate(), vacation.getEndDate()));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void vacationRejected(VacationRequest vacation) {
+        enqueue(vacation.getUser(), NotificationType.VACATION_REJECTED, vacation,
+                String.format("Your vacation from %s to %s was rejected.",
+                        vacation.getStartDate(), vacation.getEndDate()));
+    }
+
+    private void enqueue(User recipient, NotificationType type, VacationRequest vacation, String message) {
+        NotificationOutbox event = new NotificationOutbox();
+        event.setRecipientEmail(recipient.getEmail());
+        event.setRecipientName(recipient.getName());
+        event.setType(type);
+        event.setVacationId(vacation.getId());
+        event.setMessage(message);
+        outboxRepository.save(event);
+    }
+}
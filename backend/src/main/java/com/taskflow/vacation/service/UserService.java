@@ -1,17 +1,29 @@
 package com.taskflow.vacation.service;
 
 import com.taskflow.vacation.dto.CreateUserRequest;
+import com.taskflow.vacation.dto.OffboardMode;
+import com.taskflow.vacation.dto.OffboardUsersRequest;
+import com.taskflow.vacation.dto.OffboardUsersResponse;
 import com.taskflow.vacation.dto.UpdateUserRequest;
 import com.taskflow.vacation.dto.UserResponse;
+import com.taskflow.vacation.entity.Role;
 import com.taskflow.vacation.entity.User;
-import com.taskflow.vacation.entity.VacationRequest;
+import com.taskflow.vacation.entity.VacationStatus;
+import com.taskflow.vacation.exception.ConflictException;
+import com.taskflow.vacation.exception.InvalidRequestException;
+import com.taskflow.vacation.exception.NotFoundException;
+import com.taskflow.vacation.repository.ArchivedVacationReads;
 import com.taskflow.vacation.repository.UserRepository;
 import com.taskflow.vacation.repository.VacationRequestRepository;
+import com.taskflow.vacation.security.TokenRevocationService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,9 +35,15 @@ public class UserService {
     @Autowired
     private VacationRequestRepository vacationRepository;
 
+    @Autowired
+    private ArchivedVacationReads archivedVacationReads;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
     public List<UserResponse> getAllUsers() {
         return userRepository.findAll().stream()
                 .map(this::mapToResponse)
@@ -34,13 +52,13 @@ public class UserService {
 
     public UserResponse getUserById(Long id) {
         User user = userRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                .orElseThrow(() -> new NotFoundException("USER_NOT_FOUND", "User not found"));
         return mapToResponse(user);
     }
 
     public UserResponse createUser(CreateUserRequest request) {
         if (userRepository.existsByEmail(request.getEmail())) {
-            throw new RuntimeException("Email already exists");
+            throw new ConflictException("EMAIL_EXISTS", "Email already exists");
         }
 
         User user = new User();
@@ -51,7 +69,7 @@ public class UserService {
 
         if (request.getManagerId() != null) {
             User manager = userRepository.findById(request.getManagerId())
-                    .orElseThrow(() -> new RuntimeException("Manager not found"));
+                    .orElseThrow(() -> new NotFoundException("MANAGER_NOT_FOUND", "Manager not found"));
             user.setManager(manager);
         }
 
@@ -59,13 +77,16 @@ public class UserService {
         return mapToResponse(savedUser);
     }
 
+    @Transactional
     public UserResponse updateUser(Long id, UpdateUserRequest request) {
         User user = userRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                .orElseThrow(() -> new NotFoundException("USER_NOT_FOUND", "User not found"));
+        String previousEmail = user.getEmail();
+        Role previousRole = user.getRole();
 
         if (request.getEmail() != null && !request.getEmail().equals(user.getEmail())) {
             if (userRepository.existsByEmail(request.getEmail())) {
-                throw new RuntimeException("Email already exists");
+                throw new ConflictException("EMAIL_EXISTS", "Email already exists");
             }
             user.setEmail(request.getEmail());
         }
@@ -80,27 +101,79 @@ public class UserService {
 
         if (request.getManagerId() != null) {
             User manager = userRepository.findById(request.getManagerId())
-                    .orElseThrow(() -> new RuntimeException("Manager not found"));
+                    .orElseThrow(() -> new NotFoundException("MANAGER_NOT_FOUND", "Manager not found"));
             user.setManager(manager);
         }
 
         User updatedUser = userRepository.save(user);
+        if (!previousEmail.equals(updatedUser.getEmail()) || previousRole != updatedUser.getRole()) {
+            tokenRevocationService.revokeAllForUser(previousEmail);
+        }
         return mapToResponse(updatedUser);
     }
 
+    @Transactional
     public void deleteUser(Long id) {
-        if (!userRepository.existsById(id)) {
-            throw new RuntimeException("User not found");
+        List<String> emails = userRepository.findEmailsByIdIn(Set.of(id));
+        if (emails.isEmpty()) {
+            throw new NotFoundException("USER_NOT_FOUND", "User not found");
         }
-        
-        User user = userRepository.findById(id).get();
-        List<VacationRequest> userVacations = vacationRepository.findByUser(user);
-        
-        if (!userVacations.isEmpty()) {
-            throw new IllegalStateException("Cannot delete user with existing vacation requests");
+
+        // Archived years still reference the user, so they count as well.
+        if (archivedVacationReads.include(() -> vacationRepository.existsByUser_Id(id))) {
+            throw new ConflictException("USER_HAS_VACATIONS", "Cannot delete user with existing vacation requests");
         }
         
-        userRepository.deleteById(id);
+        userRepository.deleteAllByIds(Set.of(id));
+        tokenRevocationService.revokeAllForUsers(emails);
+    }
+
+    @Transactional
+    public OffboardUsersResponse offboardUsers(OffboardUsersRequest request) {
+        Set<Long> ids = request.getUserIds();
+
+        List<String> emails = userRepository.findEmailsByIdIn(ids);
+        if (emails.size() != ids.size()) {
+            throw new InvalidRequestException("INVALID_OFFBOARDING", "One or more users not found");
+        }
+
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        userRepository.findByEmail(email)
+                .filter(current -> ids.contains(current.getId()))
+                .ifPresent(current -> {
+                    throw new InvalidRequestException("INVALID_OFFBOARDING", "You cannot offboard yourself");
+                });
+
+        int reassigned = 0;
+        if (userRepository.existsByManager_IdInAndIdNotIn(ids, ids)) {
+            if (request.getNewManagerId() == null) {
+                throw new InvalidRequestException("INVALID_OFFBOARDING", "A new manager is required to take over direct reports");
+            }
+            if (ids.contains(request.getNewManagerId())) {
+                throw new InvalidRequestException("INVALID_OFFBOARDING", "The new manager cannot be one of the offboarded users");
+            }
+            User newManager = userRepository.findById(request.getNewManagerId())
+                    .filter(User::isActive)
+                    .orElseThrow(() -> new InvalidRequestException("INVALID_OFFBOARDING", "Manager not found"));
+            reassigned = userRepository.reassignReports(ids, newManager);
+        }
+
+        int offboarded;
+        int pendingClosed;
+        if (request.getMode() == OffboardMode.DELETE) {
+            pendingClosed = vacationRepository.deletePending(ids);
+            if (archivedVacationReads.include(() -> vacationRepository.existsByUser_IdIn(ids))) {
+                throw new ConflictException("USER_HAS_VACATIONS", "Cannot delete users with existing vacation requests");
+            }
+            userRepository.clearManagers(ids);
+            offboarded = userRepository.deleteAllByIds(ids);
+        } else {
+            pendingClosed = vacationRepository.updatePendingStatus(ids, VacationStatus.REJECTED);
+            offboarded = userRepository.deactivateAll(ids);
+        }
+
+        tokenRevocationService.revokeAllForUsers(emails);
+        return new OffboardUsersResponse(offboarded, reassigned, pendingClosed);
     }
 
     public boolean isCurrentUser(Long userId, String email) {
@@ -108,13 +181,14 @@ public class UserService {
         return currentUser != null && currentUser.getId().equals(userId);
     }
 
-    private UserResponse mapToResponse(User user) {
+    UserResponse mapToResponse(User user) {
         return new UserResponse(
                 user.getId(),
                 user.getEmail(),
                 user.getName(),
                 user.getRole(),
-                user.getManager() != null ? user.getManager().getId() : null
+                user.getManager() != null ? user.getManager().getId() : null,
+                user.isActive()
         );
     }
 }
\ No newline at end of file
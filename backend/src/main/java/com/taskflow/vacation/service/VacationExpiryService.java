@@ -0,0 +1,126 @@
+package com.taskflow.vacation.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves PENDING vacation requests whose start date has passed to EXPIRED.
+ * <p>
+ * Rows are walked by id in chunks, each chunk updated in its own short
+ * transaction, so the job never holds row locks for long nor loads the table
+ * into memory. A session-level advisory lock keeps it to one node at a time.
+ * The partial index it relies on is created by {@code db/schema-upgrades.sql}.
+ */
+@Service
+public class VacationExpiryService {
+
+    private static final Logger log = LoggerFactory.getLogger(VacationExpiryService.class);
+
+    private static final long ADVISORY_LOCK_KEY = 0x7661636578706972L;
+
+    private static final String EXPIRE_CHUNK =
+            "UPDATE vacation_requests v SET status = 'EXPIRED' " +
+            "FROM (SELECT id, start_date FROM vacation_requests " +
+            "      WHERE status = 'PENDING' AND start_date < ? AND id > ? " +
+            "      ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED) stale " +
+            "WHERE v.id = stale.id AND v.start_date = stale.start_date " +
+            "RETURNING v.id";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${expiry.enabled}")
+    private boolean enabled;
+
+    @Value("${expiry.chunk-size}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${expiry.cron}")
+    public void expireStaleRequests() {
+        if (!enabled) {
+            return;
+        }
+
+        try (Connection lockConnection = dataSource.getConnection()) {
+            if (!"PostgreSQL".equals(lockConnection.getMetaData().getDatabaseProductName())) {
+                return;
+            }
+            if (!advisoryLock(lockConnection, "SELECT pg_try_advisory_lock(?)")) {
+                log.info("Vacation expiry already running on another node, skipping");
+                return;
+            }
+            try {
+                run();
+            } finally {
+                advisoryLock(lockConnection, "SELECT pg_advisory_unlock(?)");
+            }
+        } catch (SQLException e) {
+            log.warn("Vacation expiry failed", e);
+        }
+    }
+
+    private void run() {
+        LocalDate today = LocalDate.now();
+        long started = System.nanoTime();
+        long lastId = 0;
+        int processed = 0;
+        int chunks = 0;
+
+        while (true) {
+            long afterId = lastId;
+            List<Long> expired = transactionTemplate.execute(status ->
+                    jdbcTemplate.queryForList(EXPIRE_CHUNK, Long.class, today, afterId, chunkSize));
+            if (expired == null || expired.isEmpty()) {
+                break;
+            }
+            processed += expired.size();
+            chunks++;
+            lastId = expired.stream().mapToLong(Long::longValue).max().getAsLong();
+            if (expired.size() < chunkSize) {
+                break;
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - started;
+        Counter.builder("vacation.expiry.rows").register(meterRegistry).increment(processed);
+        Timer.builder("vacation.expiry.duration").register(meterRegistry).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        log.info("Expired {} stale pending vacation requests in {} chunks ({} ms)",
+                processed, chunks, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+
+    private static boolean advisoryLock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, ADVISORY_LOCK_KEY);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package com.taskflow.vacation.service;
+
+import com.taskflow.vacation.repository.ArchivedVacationReads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps {@code vacation_requests} range-partitioned by {@code start_date} year.
+ * <p>
+ * On the first run the plain table created by Hibernate is converted into a
+ * partitioned one. Every run then makes sure partitions exist for the coming
+ * years and detaches closed years into the {@code vacation_archive} schema,
+ * where they are read-only and only reachable through the
+ * {@code vacation_requests_all} view (see {@link ArchivedVacationReads}).
+ */
+@Service
+public class VacationPartitionService implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(VacationPartitionService.class);
+
+    private static final String TABLE = "vacation_requests";
+    private static final String DEFAULT_PARTITION = TABLE + "_default";
+    private static final String ARCHIVE_SCHEMA = "vacation_archive";
+    private static final String ALL_VIEW = TABLE + "_all";
+    private static final Pattern YEAR_PARTITION = Pattern.compile(TABLE + "_y(\\d{4})");
+    private static final long ADVISORY_LOCK_KEY = 0x7661636174696f6eL;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ArchivedVacationReads archivedVacationReads;
+
+    @Value("${partitioning.enabled}")
+    private boolean enabled;
+
+    @Value("${partitioning.years-ahead}")
+    private int yearsAhead;
+
+    @Value("${partitioning.retain-closed-years}")
+    private int retainClosedYears;
+
+    @Value("${partitioning.archive-tablespace:}")
+    private String archiveTablespace;
+
+    private volatile Boolean postgres;
+
+    /**
+     * A failed startup run must not keep the application from starting; the
+     * nightly run retries and the live table keeps working either way.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            maintain();
+        } catch (RuntimeException e) {
+            log.error("Partition maintenance failed at startup, retrying on the next scheduled run", e);
+        }
+    }
+
+    /**
+     * Whether requests starting in {@code year} belong to a closed year, which is
+     * archived (or about to be) and no longer accepts new rows.
+     */
+    public boolean isClosedYear(int year) {
+        if (!enabled) {
+            return false;
+        }
+        return year < LocalDate.now().getYear() - retainClosedYears || (isPostgres() && isArchived(year));
+    }
+
+    @Scheduled(cron = "${partitioning.cron}")
+    public void maintain() {
+        if (!enabled || !isPostgres()) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> maintainPartitions());
+        archivedVacationReads.setAvailable(Boolean.TRUE.equals(
+                jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, ALL_VIEW)));
+    }
+
+    private void maintainPartitions() {
+        Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, ADVISORY_LOCK_KEY);
+        if (!Boolean.TRUE.equals(locked)) {
+            log.info("Partition maintenance already running on another node, skipping");
+            return;
+        }
+
+        if (!isPartitioned()) {
+            convertToPartitioned();
+        }
+
+        int currentYear = LocalDate.now().getYear();
+        int oldestLiveYear = currentYear - retainClosedYears;
+
+        for (int year = oldestLiveYear; year <= currentYear + yearsAhead; year++) {
+            createYearPartition(year);
+        }
+        // Backdated requests land in the default partition; give their years a
+        // partition of their own so closed years can still be archived.
+        jdbcTemplate.queryForList("SELECT DISTINCT EXTRACT(YEAR FROM start_date)::int FROM " + DEFAULT_PARTITION, Integer.class)
+                .forEach(this::createYearPartition);
+
+        ensureArchiveSchema();
+        for (int year : listYearPartitions()) {
+            if (year < oldestLiveYear) {
+                archiveYear(year);
+            }
+        }
+
+        rebuildAllView();
+    }
+
+    private boolean isPostgres() {
+        Boolean known = postgres;
+        if (known != null) {
+            return known;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            known = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+            postgres = known;
+            return known;
+        } catch (SQLException e) {
+            log.warn("Could not determine database type, skipping partition maintenance", e);
+            return false;
+        }
+    }
+
+    private boolean isPartitioned() {
+        String kind = jdbcTemplate.queryForObject(
+                "SELECT c.relkind::text FROM pg_class c WHERE c.oid = to_regclass(?)", String.class, TABLE);
+        return "p".equals(kind);
+    }
+
+    private void convertToPartitioned() {
+        String legacy = TABLE + "_unpartitioned";
+        log.info("Converting {} to a table partitioned by start_date year", TABLE);
+
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " RENAME TO " + legacy);
+        jdbcTemplate.execute("CREATE TABLE " + TABLE + " (LIKE " + legacy + " INCLUDING DEFAULTS INCLUDING IDENTITY, " +
+                "PRIMARY KEY (id, start_date), " +
+                "FOREIGN KEY (user_id) REFERENCES users (id)) " +
+                "PARTITION BY RANGE (start_date)");
+        jdbcTemplate.execute("CREATE TABLE " + DEFAULT_PARTITION + " PARTITION OF " + TABLE + " DEFAULT");
+        jdbcTemplate.execute("CREATE INDEX ON " + TABLE + " (user_id)");
+        jdbcTemplate.execute("CREATE INDEX ON " + TABLE + " (status, start_date)");
+
+        List<Integer> years = jdbcTemplate.queryForList(
+                "SELECT DISTINCT EXTRACT(YEAR FROM start_date)::int FROM " + legacy, Integer.class);
+        years.forEach(this::createYearPartition);
+
+        jdbcTemplate.execute("INSERT INTO " + TABLE + " OVERRIDING SYSTEM VALUE SELECT * FROM " + legacy);
+        jdbcTemplate.execute("SELECT setval(pg_get_serial_sequence('" + TABLE + "', 'id'), " +
+                "COALESCE((SELECT MAX(id) FROM " + TABLE + "), 0) + 1, false)");
+        jdbcTemplate.execute("DROP TABLE " + legacy);
+        // Same index as db/schema-upgrades.sql, which ran against the table just dropped.
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_vacation_requests_pending ON " + TABLE +
+                " (id) WHERE status = 'PENDING'");
+    }
+
+    private void createYearPartition(int year) {
+        String partition = TABLE + "_y" + year;
+        if (exists(partition)) {
+            return;
+        }
+        // to_regclass only searches the search_path, so an archived year has to be
+        // looked up in its schema; recreating it here would clash with the archive.
+        if (isArchived(year)) {
+            log.warn("Year {} is already archived, leaving its rows in {}", year, DEFAULT_PARTITION);
+            return;
+        }
+
+        LocalDate from = LocalDate.of(year, 1, 1);
+        LocalDate to = from.plusYears(1);
+
+        // Rows for this year may already sit in the default partition; PostgreSQL
+        // refuses to create an overlapping partition until they are moved out.
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + DEFAULT_PARTITION);
+        jdbcTemplate.execute("CREATE TABLE " + partition + " PARTITION OF " + TABLE +
+                " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+        jdbcTemplate.update("INSERT INTO " + TABLE + " OVERRIDING SYSTEM VALUE SELECT * FROM " + DEFAULT_PARTITION +
+                " WHERE start_date >= ? AND start_date < ?", from, to);
+        jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION + " WHERE start_date >= ? AND start_date < ?", from, to);
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ATTACH PARTITION " + DEFAULT_PARTITION + " DEFAULT");
+
+        log.info("Created partition {}", partition);
+    }
+
+    private boolean isArchived(int year) {
+        return exists(ARCHIVE_SCHEMA + "." + TABLE + "_y" + year);
+    }
+
+    private boolean exists(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, table));
+    }
+
+    private List<Integer> listYearPartitions() {
+        List<String> names = jdbcTemplate.queryForList(
+                "SELECT c.relname::text FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                "WHERE i.inhparent = to_regclass(?)", String.class, TABLE);
+        return names.stream()
+                .map(YEAR_PARTITION::matcher)
+                .filter(Matcher::matches)
+                .map(m -> Integer.parseInt(m.group(1)))
+                .sorted()
+                .toList();
+    }
+
+    private void archiveYear(int year) {
+        String partition = TABLE + "_y" + year;
+        log.info("Archiving closed year {} into {}.{}", year, ARCHIVE_SCHEMA, partition);
+
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + partition);
+        jdbcTemplate.execute("ALTER TABLE " + partition + " SET SCHEMA " + ARCHIVE_SCHEMA);
+        if (!archiveTablespace.isBlank()) {
+            jdbcTemplate.execute("ALTER TABLE " + ARCHIVE_SCHEMA + "." + partition + " SET TABLESPACE " + archiveTablespace);
+        }
+        jdbcTemplate.execute("REVOKE INSERT, UPDATE, DELETE, TRUNCATE ON " + ARCHIVE_SCHEMA + "." + partition + " FROM PUBLIC");
+        jdbcTemplate.execute("CREATE TRIGGER " + partition + "_read_only BEFORE INSERT OR UPDATE OR DELETE ON " +
+                ARCHIVE_SCHEMA + "." + partition + " FOR EACH STATEMENT EXECUTE FUNCTION " +
+                ARCHIVE_SCHEMA + ".reject_write()");
+    }
+
+    private void ensureArchiveSchema() {
+        jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + ARCHIVE_SCHEMA);
+        jdbcTemplate.execute("CREATE OR REPLACE FUNCTION " + ARCHIVE_SCHEMA + ".reject_write() RETURNS trigger " +
+                "LANGUAGE plpgsql AS $$ BEGIN RAISE EXCEPTION 'archived vacation requests are read-only'; END $$");
+    }
+
+    private void rebuildAllView() {
+        List<String> archived = jdbcTemplate.queryForList(
+                "SELECT tablename::text FROM pg_tables WHERE schemaname = ? AND tablename LIKE ? ORDER BY tablename",
+                String.class, ARCHIVE_SCHEMA, TABLE + "\\_y%");
+
+        // The live table keeps gaining columns through ddl-auto while archived
+        // years are frozen, so the view is built from the live column list and
+        // archives project NULL for anything they predate.
+        Map<String, String> columns = listColumns(TABLE);
+        StringBuilder view = new StringBuilder(select(columns, columns.keySet(), TABLE));
+        for (String table : archived) {
+            String qualified = ARCHIVE_SCHEMA + "." + table;
+            view.append(" UNION ALL ").append(select(columns, listColumns(qualified).keySet(), qualified));
+        }
+
+        jdbcTemplate.execute("DROP VIEW IF EXISTS " + ALL_VIEW);
+        jdbcTemplate.execute("CREATE VIEW " + ALL_VIEW + " AS " + view);
+    }
+
+    private Map<String, String> listColumns(String table) {
+        Map<String, String> columns = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "SELECT quote_ident(a.attname), format_type(a.atttypid, a.atttypmod) FROM pg_attribute a " +
+                "WHERE a.attrelid = to_regclass(?) AND a.attnum > 0 AND NOT a.attisdropped ORDER BY a.attnum",
+                rs -> { columns.put(rs.getString(1), rs.getString(2)); }, table);
+        return columns;
+    }
+
+    private static String select(Map<String, String> columns, Set<String> present, String table) {
+        String projection = columns.entrySet().stream()
+                .map(column -> present.contains(column.getKey())
+                        ? column.getKey()
+                        : "NULL::" + column.getValue() + " AS " + column.getKey())
+                .collect(Collectors.joining(", "));
+        return "SELECT " + projection + " FROM " + table;
+    }
+}
@@ -6,11 +6,17 @@ import com.taskflow.vacation.entity.Role;
 import com.taskflow.vacation.entity.User;
 import com.taskflow.vacation.entity.VacationRequest;
 import com.taskflow.vacation.entity.VacationStatus;
+import com.taskflow.vacation.exception.ConflictException;
+import com.taskflow.vacation.exception.ForbiddenOperationException;
+import com.taskflow.vacation.exception.InvalidRequestException;
+import com.taskflow.vacation.exception.NotFoundException;
+import com.taskflow.vacation.repository.ArchivedVacationReads;
 import com.taskflow.vacation.repository.UserRepository;
 import com.taskflow.vacation.repository.VacationRequestRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -24,13 +30,28 @@ public class VacationService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private ArchivedVacationReads archivedVacationReads;
+
+    @Autowired
+    private VacationPartitionService partitionService;
+
+    @Transactional
     public VacationResponse createVacation(CreateVacationRequest request) {
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
         User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                .orElseThrow(() -> new NotFoundException("USER_NOT_FOUND", "User not found"));
 
         if (request.getStartDate().isAfter(request.getEndDate())) {
-            throw new RuntimeException("Start date must be before end date");
+            throw new InvalidRequestException("INVALID_DATES", "Start date must be before end date");
+        }
+
+        if (partitionService.isClosedYear(request.getStartDate().getYear())) {
+            throw new InvalidRequestException("YEAR_CLOSED", "Vacations can no longer be requested for " +
+                    request.getStartDate().getYear());
         }
 
         List<VacationRequest> overlapping = vacationRepository.findOverlappingVacations(
@@ -38,7 +59,7 @@ public class VacationService {
         );
 
         if (!overlapping.isEmpty()) {
-            throw new RuntimeException("Vacation dates overlap with existing approved vacations");
+            throw new ConflictException("VACATION_OVERLAP", "Vacation dates overlap with existing approved vacations");
         }
 
         VacationRequest vacation = new VacationRequest();
@@ -48,97 +69,113 @@ public class VacationService {
         vacation.setStatus(VacationStatus.PENDING);
 
         VacationRequest saved = vacationRepository.save(vacation);
+        notificationService.vacationRequested(saved);
         return mapToResponse(saved);
     }
 
+    public List<VacationResponse> getAllVacations(boolean includeArchived) {
+        if (includeArchived) {
+            return archivedVacationReads.include(this::getAllVacations);
+        }
+        return getAllVacations();
+    }
+
     public List<VacationResponse> getAllVacations() {
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
         User currentUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                .orElseThrow(() -> new NotFoundException("USER_NOT_FOUND", "User not found"));
 
-        List<VacationRequest> vacations;
+        return findVisibleVacations(currentUser).stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
 
+    List<VacationRequest> findVisibleVacations(User currentUser) {
         if (currentUser.getRole() == Role.ADMIN) {
-            vacations = vacationRepository.findAll();
+            return vacationRepository.findAll();
         } else if (currentUser.getRole() == Role.MANAGER) {
-            vacations = vacationRepository.findAll().stream()
-                    .filter(v -> v.getUser().getManager() != null && 
-                                 v.getUser().getManager().getId().equals(currentUser.getId()))
-                    .collect(Collectors.toList());
-        } else {
-            vacations = vacationRepository.findByUser(currentUser);
+            return vacationRepository.findByUser_Manager_Id(currentUser.getId());
         }
-
-        return vacations.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return vacationRepository.findByUser(currentUser);
     }
 
+    @Transactional
     public VacationResponse approveVacation(Long id) {
         VacationRequest vacation = vacationRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Vacation not found"));
+                .orElseThrow(() -> new NotFoundException("VACATION_NOT_FOUND", "Vacation not found"));
 
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
         User currentUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                .orElseThrow(() -> new NotFoundException("USER_NOT_FOUND", "User not found"));
 
         if (currentUser.getRole() == Role.COLLABORATOR) {
-            throw new RuntimeException("Collaborators cannot approve vacations");
+            throw new ForbiddenOperationException("REVIEW_FORBIDDEN", "Collaborators cannot approve vacations");
+        }
+
+        if (vacation.getStatus() == VacationStatus.EXPIRED) {
+            throw new ConflictException("VACATION_EXPIRED", "Expired vacations cannot be approved");
         }
 
         if (currentUser.getRole() == Role.MANAGER) {
             if (vacation.getUser().getManager() == null || 
                 !vacation.getUser().getManager().getId().equals(currentUser.getId())) {
-                throw new RuntimeException("You can only approve your team's vacations");
+                throw new ForbiddenOperationException("REVIEW_FORBIDDEN", "You can only approve your team's vacations");
             }
         }
 
         vacation.setStatus(VacationStatus.APPROVED);
         VacationRequest updated = vacationRepository.save(vacation);
+        notificationService.vacationApproved(updated);
         return mapToResponse(updated);
     }
 
+    @Transactional
     public VacationResponse rejectVacation(Long id) {
         VacationRequest vacation = vacationRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Vacation not found"));
+                .orElseThrow(() -> new NotFoundException("VACATION_NOT_FOUND", "Vacation not found"));
 
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
         User currentUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                .orElseThrow(() -> new NotFoundException("USER_NOT_FOUND", "User not found"));
 
         if (currentUser.getRole() == Role.COLLABORATOR) {
-            throw new RuntimeException("Collaborators cannot reject vacations");
+            throw new ForbiddenOperationException("REVIEW_FORBIDDEN", "Collaborators cannot reject vacations");
+        }
+
+        if (vacation.getStatus() == VacationStatus.EXPIRED) {
+            throw new ConflictException("VACATION_EXPIRED", "Expired vacations cannot be rejected");
         }
 
         if (currentUser.getRole() == Role.MANAGER) {
             if (vacation.getUser().getManager() == null || 
                 !vacation.getUser().getManager().getId().equals(currentUser.getId())) {
-                throw new RuntimeException("You can only reject your team's vacations");
+                throw new ForbiddenOperationException("REVIEW_FORBIDDEN", "You can only reject your team's vacations");
             }
         }
 
         vacation.setStatus(VacationStatus.REJECTED);
         VacationRequest updated = vacationRepository.save(vacation);
+        notificationService.vacationRejected(updated);
         return mapToResponse(updated);
     }
 
     public void deleteVacation(Long id) {
         VacationRequest vacation = vacationRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Vacation not found"));
+                .orElseThrow(() -> new NotFoundException("VACATION_NOT_FOUND", "Vacation not found"));
 
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
         User currentUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                .orElseThrow(() -> new NotFoundException("USER_NOT_FOUND", "User not found"));
 
         if (currentUser.getRole() == Role.COLLABORATOR && 
             !vacation.getUser().getId().equals(currentUser.getId())) {
-            throw new RuntimeException("You can only delete your own vacations");
+            throw new ForbiddenOperationException("DELETE_FORBIDDEN", "You can only delete your own vacations");
         }
 
         vacationRepository.deleteById(id);
     }
 
-    private VacationResponse mapToResponse(VacationRequest vacation) {
+    VacationResponse mapToResponse(VacationRequest vacation) {
         return new VacationResponse(
                 vacation.getId(),
                 vacation.getUser().getId(),
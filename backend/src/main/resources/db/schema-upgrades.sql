@@ -0,0 +1,32 @@
+-- Runs after Hibernate's ddl-auto update on every start (spring.sql.init), so it must be idempotent.
+-- Hibernate creates check constraints for enum columns but never widens them when a constant is added.
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_constraint
+               WHERE conname = 'notification_outbox_status_check'
+                 AND pg_get_constraintdef(oid) NOT LIKE '%SENDING%') THEN
+        ALTER TABLE notification_outbox DROP CONSTRAINT notification_outbox_status_check;
+        ALTER TABLE notification_outbox ADD CONSTRAINT notification_outbox_status_check
+            CHECK (status IN ('PENDING', 'SENDING', 'SENT', 'FAILED'));
+    END IF;
+END
+$$
+^^^
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_constraint
+               WHERE conname = 'vacation_requests_status_check'
+                 AND pg_get_constraintdef(oid) NOT LIKE '%EXPIRED%') THEN
+        ALTER TABLE vacation_requests DROP CONSTRAINT vacation_requests_status_check;
+        ALTER TABLE vacation_requests ADD CONSTRAINT vacation_requests_status_check
+            CHECK (status IN ('PENDING', 'APPROVED', 'REJECTED', 'EXPIRED'));
+    END IF;
+END
+$$
+^^^
+
+-- Lets the expiry job walk pending requests by id without scanning the rest.
+CREATE INDEX IF NOT EXISTS idx_vacation_requests_pending ON vacation_requests (id) WHERE status = 'PENDING'
+^^^
@@ -0,0 +1,68 @@
+package com.taskflow.vacation.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The per-account limit in the controller and the per-IP limit in the filter
+ * must reject with the same problem body.
+ */
+@SpringBootTest(properties = {
+		"rate-limit.login.account.capacity=1",
+		"rate-limit.login.ip.capacity=2"
+})
+@AutoConfigureMockMvc
+class LoginRateLimitTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void perAccountLimitAnswersWithAProblem() throws Exception {
+		login("10.0.0.1", "limited@ratelimit.test").andExpect(status().isUnauthorized());
+
+		expectTooManyRequests(login("10.0.0.1", "limited@ratelimit.test"));
+	}
+
+	@Test
+	void perIpLimitAnswersWithTheSameProblem() throws Exception {
+		login("10.0.0.2", "first@ratelimit.test").andExpect(status().isUnauthorized());
+		login("10.0.0.2", "second@ratelimit.test").andExpect(status().isUnauthorized());
+
+		expectTooManyRequests(login("10.0.0.2", "third@ratelimit.test"));
+	}
+
+	private ResultActions login(String ip, String email) throws Exception {
+		return mockMvc.perform(post("/api/auth/login")
+				.with(request -> {
+					request.setRemoteAddr(ip);
+					return request;
+				})
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"email\":\"" + email + "\",\"password\":\"wrong\"}"));
+	}
+
+	private static void expectTooManyRequests(ResultActions result) throws Exception {
+		result.andExpect(status().isTooManyRequests())
+				.andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON))
+				.andExpect(jsonPath("$.type").value("urn:taskflow:problem:too-many-requests"))
+				.andExpect(jsonPath("$.title").value("Too Many Requests"))
+				.andExpect(jsonPath("$.status").value(429))
+				.andExpect(jsonPath("$.detail").value("Rate limit exceeded"))
+				.andExpect(jsonPath("$.instance").value("/api/auth/login"))
+				.andExpect(jsonPath("$.error").value("TOO_MANY_REQUESTS"));
+	}
+}
@@ -0,0 +1,42 @@
+package com.taskflow.vacation.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * With async-handlers.enabled at its default (off) the future-returning
+ * handlers must complete on the request thread, without an async dispatch.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser(username = "admin@taskflow.com", roles = "ADMIN")
+class SynchronousHandlersTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void writesResultsWithoutStartingAsyncProcessing() throws Exception {
+		mockMvc.perform(get("/api/vacations"))
+				.andExpect(request().asyncNotStarted())
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$").isArray());
+	}
+
+	@Test
+	void mapsFailuresWithoutStartingAsyncProcessing() throws Exception {
+		mockMvc.perform(get("/api/users/{id}", Long.MAX_VALUE))
+				.andExpect(request().asyncNotStarted())
+				.andExpect(status().isNotFound())
+				.andExpect(jsonPath("$.error").value("USER_NOT_FOUND"));
+	}
+}
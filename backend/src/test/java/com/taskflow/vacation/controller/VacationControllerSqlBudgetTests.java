@@ -0,0 +1,104 @@
+package com.taskflow.vacation.controller;
+
+import com.taskflow.vacation.entity.Role;
+import com.taskflow.vacation.entity.User;
+import com.taskflow.vacation.entity.VacationRequest;
+import com.taskflow.vacation.entity.VacationStatus;
+import com.taskflow.vacation.monitoring.SqlBudget;
+import com.taskflow.vacation.repository.UserRepository;
+import com.taskflow.vacation.repository.VacationRequestRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "async-handlers.enabled=true")
+@AutoConfigureMockMvc
+class VacationControllerSqlBudgetTests {
+
+	private static final int MANAGERS = 3;
+	private static final int REPORTS_PER_MANAGER = 4;
+	private static final int VACATIONS_PER_USER = 2;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private VacationRequestRepository vacationRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private final List<User> managers = new ArrayList<>();
+	private final List<User> reports = new ArrayList<>();
+	private final List<Long> vacations = new ArrayList<>();
+
+	@BeforeEach
+	void seed() {
+		LocalDate start = LocalDate.now().plusMonths(1);
+		for (int m = 0; m < MANAGERS; m++) {
+			User manager = userRepository.save(user("manager" + m + "@budget.test", Role.MANAGER, null));
+			managers.add(manager);
+			for (int r = 0; r < REPORTS_PER_MANAGER; r++) {
+				User report = userRepository.save(user("report" + m + "-" + r + "@budget.test", Role.COLLABORATOR, manager));
+				reports.add(report);
+				for (int v = 0; v < VACATIONS_PER_USER; v++) {
+					VacationRequest vacation = new VacationRequest();
+					vacation.setUser(report);
+					vacation.setStartDate(start.plusDays(10L * v));
+					vacation.setEndDate(start.plusDays(10L * v + 2));
+					vacation.setStatus(VacationStatus.PENDING);
+					vacations.add(vacationRepository.save(vacation).getId());
+				}
+			}
+		}
+		// Start cold so every user has to come from the database.
+		entityManagerFactory.getCache().evictAll();
+	}
+
+	@AfterEach
+	void cleanUp() {
+		vacationRepository.deleteAllById(vacations);
+		userRepository.deleteAll(reports);
+		userRepository.deleteAll(managers);
+	}
+
+	@Test
+	@WithMockUser(username = "admin@taskflow.com", roles = "ADMIN")
+	void listVacationsStaysWithinQueryBudget() throws Exception {
+		MvcResult started = mockMvc.perform(get("/api/vacations"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mockMvc.perform(asyncDispatch(started))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length()").value(greaterThanOrEqualTo(vacations.size())))
+				.andExpect(SqlBudget.atMostStatements(5))
+				.andExpect(SqlBudget.noRepeatedStatements(3));
+	}
+
+	private static User user(String email, Role role, User manager) {
+		return new User(null, email, "secret", email, role, manager, true, null);
+	}
+
+}
@@ -0,0 +1,41 @@
+package com.taskflow.vacation.monitoring;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.Map;
+
+/**
+ * MockMvc matchers that fail a test when a request issues more SQL than its budget.
+ */
+public final class SqlBudget {
+
+    private SqlBudget() {
+    }
+
+    public static ResultMatcher atMostStatements(long max) {
+        return result -> {
+            SqlStats stats = statsOf(result.getRequest().getAttribute(SqlStats.REQUEST_ATTRIBUTE));
+            if (stats.getStatements() > max) {
+                throw new AssertionError(String.format("Expected at most %d SQL statements but %d were executed",
+                        max, stats.getStatements()));
+            }
+        };
+    }
+
+    public static ResultMatcher noRepeatedStatements(int threshold) {
+        return result -> {
+            SqlStats stats = statsOf(result.getRequest().getAttribute(SqlStats.REQUEST_ATTRIBUTE));
+            Map<String, Integer> repeated = stats.getRepeatedStatements(threshold);
+            if (!repeated.isEmpty()) {
+                throw new AssertionError("Statements repeated at least " + threshold + " times: " + repeated);
+            }
+        };
+    }
+
+    private static SqlStats statsOf(Object attribute) {
+        if (!(attribute instanceof SqlStats stats)) {
+            throw new AssertionError("No SQL statistics recorded; is SqlStatsFilter registered?");
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,100 @@
+package com.taskflow.vacation.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GradientLimitTests {
+
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+	private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(50);
+
+	@Test
+	void growsWhileLatencyStaysSteady() {
+		GradientLimit limit = new GradientLimit(10, 1, 1000);
+
+		int previous = limit.getLimit();
+		for (int round = 0; round < 10; round++) {
+			saturateAndComplete(limit, FAST, 10);
+			assertThat(limit.getLimit()).isGreaterThanOrEqualTo(previous);
+			previous = limit.getLimit();
+		}
+
+		assertThat(limit.getLimit()).isGreaterThan(10);
+	}
+
+	@Test
+	void doesNotGrowWhileMostlyIdle() {
+		GradientLimit limit = new GradientLimit(10, 1, 1000);
+
+		for (int i = 0; i < 100; i++) {
+			assertThat(limit.tryAcquire()).isTrue();
+			limit.onSuccess(FAST);
+		}
+
+		assertThat(limit.getLimit()).isEqualTo(10);
+	}
+
+	@Test
+	void shrinksWhenLatencyRises() {
+		GradientLimit limit = new GradientLimit(10, 1, 1000);
+		saturateAndComplete(limit, FAST, 100);
+		int beforeSlowdown = limit.getLimit();
+
+		saturateAndComplete(limit, SLOW, 30);
+
+		assertThat(limit.getLimit()).isLessThan(beforeSlowdown);
+	}
+
+	@Test
+	void backsOffMultiplicativelyOnDrops() {
+		GradientLimit limit = new GradientLimit(50, 1, 1000);
+
+		assertThat(limit.tryAcquire()).isTrue();
+		limit.onDropped();
+
+		assertThat(limit.getLimit()).isEqualTo(45);
+	}
+
+	@Test
+	void staysWithinMinAndMax() {
+		GradientLimit limit = new GradientLimit(10, 4, 20);
+
+		saturateAndComplete(limit, FAST, 500);
+		assertThat(limit.getLimit()).isEqualTo(20);
+		assertThat(saturate(limit)).isEqualTo(20);
+		drain(limit, FAST);
+
+		for (int i = 0; i < 100; i++) {
+			assertThat(limit.tryAcquire()).isTrue();
+			limit.onDropped();
+		}
+		assertThat(limit.getLimit()).isEqualTo(4);
+	}
+
+	/**
+	 * Keeps the limit fully used: fills every free slot, then completes one request.
+	 */
+	private static void saturateAndComplete(GradientLimit limit, long rttNanos, int requests) {
+		for (int i = 0; i < requests; i++) {
+			saturate(limit);
+			limit.onSuccess(rttNanos);
+		}
+		drain(limit, rttNanos);
+	}
+
+	private static int saturate(GradientLimit limit) {
+		while (limit.tryAcquire()) {
+			// fill up to the current limit
+		}
+		return limit.getInFlight();
+	}
+
+	private static void drain(GradientLimit limit, long rttNanos) {
+		while (limit.getInFlight() > 0) {
+			limit.onSuccess(rttNanos);
+		}
+	}
+}
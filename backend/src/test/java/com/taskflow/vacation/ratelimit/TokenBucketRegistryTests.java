@@ -0,0 +1,59 @@
+package com.taskflow.vacation.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRegistryTests {
+
+	@Test
+	void keysHaveIndependentBuckets() {
+		TokenBucketRegistry registry = new TokenBucketRegistry(1, 1, 10);
+
+		assertThat(registry.tryConsume("a")).isZero();
+		assertThat(registry.tryConsume("a")).isPositive();
+		assertThat(registry.tryConsume("b")).isZero();
+	}
+
+	@Test
+	void unseenKeysAreDeniedWhenFullInsteadOfSharingABucket() {
+		TokenBucketRegistry registry = new TokenBucketRegistry(5, 1, 2, TimeUnit.HOURS.toNanos(1));
+		registry.tryConsume("a");
+		registry.tryConsume("b");
+
+		assertThat(registry.tryConsume("attacker-1")).isPositive();
+		assertThat(registry.tryConsume("attacker-2")).isPositive();
+		assertThat(registry.size()).isEqualTo(2);
+
+		// Tracked clients keep their own allowance.
+		assertThat(registry.tryConsume("a")).isZero();
+		assertThat(registry.tryConsume("b")).isZero();
+	}
+
+	@Test
+	void sweepsAtMostOncePerIntervalAndAdmitsKeysOnceRoomIsFreed() throws Exception {
+		// A huge refill rate makes every bucket full again almost immediately, i.e. evictable.
+		TokenBucketRegistry registry = new TokenBucketRegistry(1, Integer.MAX_VALUE, 1, TimeUnit.MILLISECONDS.toNanos(200));
+		assertThat(registry.tryConsume("a")).isZero();
+
+		// The first overflow may sweep (the interval has elapsed since construction) and take the freed slot.
+		assertThat(registry.tryConsume("b")).isZero();
+		assertThat(registry.tryConsume("c")).isPositive();
+
+		Thread.sleep(250);
+		assertThat(registry.tryConsume("c")).isZero();
+	}
+
+	@Test
+	void scheduledEvictionRemovesOnlyRefilledBuckets() {
+		TokenBucketRegistry registry = new TokenBucketRegistry(2, 1, 10);
+		registry.tryConsume("busy");
+		registry.tryConsume("busy");
+
+		registry.evictIdle();
+
+		assertThat(registry.size()).isEqualTo(1);
+	}
+}
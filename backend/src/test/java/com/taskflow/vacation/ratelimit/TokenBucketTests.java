@@ -0,0 +1,77 @@
+package com.taskflow.vacation.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTests {
+
+	private static final double ONE_PER_SECOND = 1.0 / TimeUnit.SECONDS.toNanos(1);
+
+	@Test
+	void consumesUpToCapacityThenReportsWaitUntilNextToken() {
+		TokenBucket bucket = new TokenBucket(3, ONE_PER_SECOND, 0);
+
+		assertThat(bucket.tryConsume(0)).isZero();
+		assertThat(bucket.tryConsume(0)).isZero();
+		assertThat(bucket.tryConsume(0)).isZero();
+		assertThat(bucket.tryConsume(0)).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+		assertThat(bucket.tryConsume(TimeUnit.MILLISECONDS.toNanos(400))).isEqualTo(TimeUnit.MILLISECONDS.toNanos(600));
+	}
+
+	@Test
+	void refillsOverTimeWithoutExceedingCapacity() {
+		TokenBucket bucket = new TokenBucket(2, ONE_PER_SECOND, 0);
+		bucket.tryConsume(0);
+		bucket.tryConsume(0);
+
+		long later = TimeUnit.SECONDS.toNanos(1);
+		assertThat(bucket.tryConsume(later)).isZero();
+		assertThat(bucket.tryConsume(later)).isPositive();
+
+		long muchLater = TimeUnit.HOURS.toNanos(1);
+		assertThat(bucket.isFull(muchLater)).isTrue();
+		assertThat(bucket.tryConsume(muchLater)).isZero();
+		assertThat(bucket.tryConsume(muchLater)).isZero();
+		assertThat(bucket.tryConsume(muchLater)).isPositive();
+	}
+
+	@Test
+	void clockGoingBackwardsDoesNotMintTokens() {
+		TokenBucket bucket = new TokenBucket(1, ONE_PER_SECOND, TimeUnit.SECONDS.toNanos(10));
+		assertThat(bucket.tryConsume(TimeUnit.SECONDS.toNanos(10))).isZero();
+		assertThat(bucket.tryConsume(TimeUnit.SECONDS.toNanos(5))).isPositive();
+	}
+
+	@Test
+	void concurrentConsumersNeverTakeMoreThanCapacity() throws Exception {
+		int capacity = 500;
+		TokenBucket bucket = new TokenBucket(capacity, 1e-18, 0);
+		AtomicInteger granted = new AtomicInteger();
+		int threads = 16;
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		for (int t = 0; t < threads; t++) {
+			pool.submit(() -> {
+				start.await();
+				for (int i = 0; i < 100; i++) {
+					if (bucket.tryConsume(0) == 0) {
+						granted.incrementAndGet();
+					}
+				}
+				return null;
+			});
+		}
+		start.countDown();
+		pool.shutdown();
+		assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(granted.get()).isEqualTo(capacity);
+	}
+}
@@ -0,0 +1,41 @@
+package com.taskflow.vacation.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTests {
+
+	private static final int ENTRIES = 10_000;
+	private static final double TARGET_RATE = 0.01;
+
+	@Test
+	void neverReportsAnAddedValueAsMissing() {
+		BloomFilter filter = new BloomFilter(ENTRIES, TARGET_RATE);
+		IntStream.range(0, ENTRIES).forEach(i -> filter.add("jti:" + i));
+
+		assertThat(IntStream.range(0, ENTRIES).allMatch(i -> filter.mightContain("jti:" + i))).isTrue();
+	}
+
+	@Test
+	void falsePositiveRateStaysNearTheTarget() {
+		BloomFilter filter = new BloomFilter(ENTRIES, TARGET_RATE);
+		IntStream.range(0, ENTRIES).forEach(i -> filter.add("jti:" + i));
+
+		int probes = 100_000;
+		long falsePositives = IntStream.range(0, probes)
+				.filter(i -> filter.mightContain("sub:user" + i + "@example.com"))
+				.count();
+
+		assertThat((double) falsePositives / probes).isLessThan(TARGET_RATE * 2);
+	}
+
+	@Test
+	void emptyFilterContainsNothing() {
+		BloomFilter filter = new BloomFilter(ENTRIES, TARGET_RATE);
+
+		assertThat(filter.mightContain("jti:anything")).isFalse();
+	}
+}
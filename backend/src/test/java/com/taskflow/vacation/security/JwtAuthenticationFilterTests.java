@@ -0,0 +1,95 @@
+package com.taskflow.vacation.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class JwtAuthenticationFilterTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Value("${jwt.secret}")
+	private String secret;
+
+	@Test
+	void expiredTokenIsUnauthorized() throws Exception {
+		String expired = token("admin@taskflow.com", Instant.now().minusSeconds(7200), Instant.now().minusSeconds(3600));
+
+		mockMvc.perform(get("/api/vacations").header(HttpHeaders.AUTHORIZATION, "Bearer " + expired))
+				.andExpect(status().isUnauthorized())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON))
+				.andExpect(jsonPath("$.status").value(401))
+				.andExpect(jsonPath("$.error").value("UNAUTHORIZED"));
+	}
+
+	@Test
+	void malformedTokenIsUnauthorized() throws Exception {
+		mockMvc.perform(get("/api/vacations").header(HttpHeaders.AUTHORIZATION, "Bearer not-a-jwt"))
+				.andExpect(status().isUnauthorized())
+				.andExpect(jsonPath("$.error").value("UNAUTHORIZED"));
+	}
+
+	@Test
+	void tokenForUnknownUserIsUnauthorized() throws Exception {
+		String orphan = token("deleted@taskflow.com", Instant.now(), Instant.now().plusSeconds(3600));
+
+		mockMvc.perform(get("/api/vacations").header(HttpHeaders.AUTHORIZATION, "Bearer " + orphan))
+				.andExpect(status().isUnauthorized())
+				.andExpect(jsonPath("$.error").value("UNAUTHORIZED"));
+	}
+
+	@Test
+	void missingTokenIsUnauthorized() throws Exception {
+		mockMvc.perform(get("/api/vacations"))
+				.andExpect(status().isUnauthorized())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON));
+	}
+
+	@Test
+	@WithMockUser(username = "user@taskflow.com", roles = "COLLABORATOR")
+	void insufficientRoleIsForbidden() throws Exception {
+		mockMvc.perform(get("/api/users"))
+				.andExpect(status().isForbidden())
+				.andExpect(jsonPath("$.error").value("ACCESS_DENIED"));
+	}
+
+	@Test
+	void logoutAcceptsAnExpiredToken() throws Exception {
+		String expired = token("user@taskflow.com", Instant.now().minusSeconds(7200), Instant.now().minusSeconds(3600));
+
+		mockMvc.perform(post("/api/auth/logout").header(HttpHeaders.AUTHORIZATION, "Bearer " + expired))
+				.andExpect(status().isNoContent());
+	}
+
+	private String token(String subject, Instant issuedAt, Instant expiresAt) {
+		return Jwts.builder()
+				.setId(UUID.randomUUID().toString())
+				.setSubject(subject)
+				.setIssuedAt(Date.from(issuedAt))
+				.setExpiration(Date.from(expiresAt))
+				.signWith(Keys.hmacShaKeyFor(secret.getBytes()), SignatureAlgorithm.HS256)
+				.compact();
+	}
+}
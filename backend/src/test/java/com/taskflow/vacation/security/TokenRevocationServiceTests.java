@@ -0,0 +1,167 @@
+package com.taskflow.vacation.security;
+
+import com.taskflow.vacation.entity.RevokedToken;
+import com.taskflow.vacation.repository.RevokedTokenRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the service against an in-memory stand-in for {@code revoked_tokens},
+ * so rows can be made to "commit" out of id order the way concurrent
+ * transactions on other nodes do.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TokenRevocationServiceTests {
+
+	private static final long OVERLAP_MS = 60_000;
+
+	@Mock
+	private RevokedTokenRepository revokedTokenRepository;
+
+	@InjectMocks
+	private TokenRevocationService revocationService;
+
+	private final List<RevokedToken> table = new ArrayList<>();
+	private final AtomicLong ids = new AtomicLong();
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(revocationService, "expiration", 3_600_000L);
+		ReflectionTestUtils.setField(revocationService, "expectedEntries", 1000);
+		ReflectionTestUtils.setField(revocationService, "falsePositiveRate", 0.01);
+		ReflectionTestUtils.setField(revocationService, "syncOverlapMs", OVERLAP_MS);
+
+		when(revokedTokenRepository.save(any())).thenAnswer(invocation -> {
+			RevokedToken token = invocation.getArgument(0);
+			token.setId(ids.incrementAndGet());
+			table.add(token);
+			return token;
+		});
+		when(revokedTokenRepository.findByExpiresAtAfter(any())).thenAnswer(invocation -> {
+			Instant now = invocation.getArgument(0);
+			return table.stream().filter(t -> t.getExpiresAt().isAfter(now)).toList();
+		});
+		when(revokedTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(any(), any())).thenAnswer(invocation -> {
+			Instant revokedAfter = invocation.getArgument(0);
+			Instant now = invocation.getArgument(1);
+			return table.stream()
+					.filter(t -> t.getRevokedAt().isAfter(revokedAfter) && t.getExpiresAt().isAfter(now))
+					.toList();
+		});
+	}
+
+	@Test
+	void revokedTokenIsRejectedAndOthersAreNot() {
+		revocationService.syncFromDatabase();
+		Claims revoked = claims("a", "alice@example.com", Instant.now());
+
+		revocationService.revokeToken(revoked);
+
+		assertThat(revocationService.isRevoked(revoked)).isTrue();
+		assertThat(revocationService.isRevoked(claims("b", "alice@example.com", Instant.now()))).isFalse();
+	}
+
+	@Test
+	void revokingAUserOnlyAffectsTokensIssuedBefore() {
+		revocationService.syncFromDatabase();
+		Claims before = claims("a", "bob@example.com", Instant.now().minusSeconds(60));
+
+		revocationService.revokeAllForUser("bob@example.com");
+
+		assertThat(revocationService.isRevoked(before)).isTrue();
+		assertThat(revocationService.isRevoked(claims("b", "bob@example.com", Instant.now().truncatedTo(ChronoUnit.SECONDS)))).isFalse();
+		assertThat(revocationService.isRevoked(claims("c", "carol@example.com", Instant.now().minusSeconds(60)))).isFalse();
+	}
+
+	@Test
+	void tokensIssuedInTheSameSecondAsAUserRevocationStayValid() {
+		revocationService.syncFromDatabase();
+		Instant second = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+		insertFromAnotherNode("sub:erin@example.com", second.plusMillis(700));
+		revocationService.syncFromDatabase();
+
+		assertThat(revocationService.isRevoked(claims("same", "erin@example.com", second))).isFalse();
+		assertThat(revocationService.isRevoked(claims("earlier", "erin@example.com", second.minusSeconds(1)))).isTrue();
+	}
+
+	@Test
+	void syncPicksUpRowsFromOtherNodes() {
+		revocationService.syncFromDatabase();
+		Claims claims = claims("remote", "dave@example.com", Instant.now());
+
+		insertFromAnotherNode("jti:remote", Instant.now());
+		assertThat(revocationService.isRevoked(claims)).isFalse();
+
+		revocationService.syncFromDatabase();
+		assertThat(revocationService.isRevoked(claims)).isTrue();
+	}
+
+	@Test
+	void syncPicksUpALowerIdThatCommitsAfterAHigherOne() {
+		revocationService.syncFromDatabase();
+		Claims slow = claims("slow", "erin@example.com", Instant.now());
+		Claims fast = claims("fast", "erin@example.com", Instant.now());
+
+		// The slow transaction takes its id and revoked_at first but commits last.
+		RevokedToken slowRow = row("jti:slow", Instant.now().minusSeconds(5));
+		insertFromAnotherNode("jti:fast", Instant.now());
+		revocationService.syncFromDatabase();
+		assertThat(revocationService.isRevoked(fast)).isTrue();
+
+		table.add(slowRow);
+		revocationService.syncFromDatabase();
+		assertThat(revocationService.isRevoked(slow)).isTrue();
+	}
+
+	@Test
+	void purgeReloadsRevocationsOlderThanTheOverlap() {
+		revocationService.syncFromDatabase();
+		Claims claims = claims("late", "frank@example.com", Instant.now());
+
+		insertFromAnotherNode("jti:late", Instant.now().minusMillis(OVERLAP_MS * 2));
+		revocationService.syncFromDatabase();
+		assertThat(revocationService.isRevoked(claims)).isFalse();
+
+		revocationService.purgeExpired();
+		assertThat(revocationService.isRevoked(claims)).isTrue();
+	}
+
+	private void insertFromAnotherNode(String key, Instant revokedAt) {
+		table.add(row(key, revokedAt));
+	}
+
+	private RevokedToken row(String key, Instant revokedAt) {
+		return new RevokedToken(ids.incrementAndGet(), key, revokedAt, Instant.now().plusSeconds(3600));
+	}
+
+	private static Claims claims(String id, String subject, Instant issuedAt) {
+		Claims claims = Jwts.claims();
+		claims.setId(id);
+		claims.setSubject(subject);
+		claims.setIssuedAt(Date.from(issuedAt));
+		claims.setExpiration(Date.from(Instant.now().plusSeconds(3600)));
+		return claims;
+	}
+}
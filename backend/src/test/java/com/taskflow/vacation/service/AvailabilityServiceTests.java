@@ -0,0 +1,150 @@
+package com.taskflow.vacation.service;
+
+import com.taskflow.vacation.dto.DateRange;
+import com.taskflow.vacation.entity.Role;
+import com.taskflow.vacation.entity.User;
+import com.taskflow.vacation.exception.InvalidRequestException;
+import com.taskflow.vacation.repository.UserRepository;
+import com.taskflow.vacation.repository.VacationRequestRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AvailabilityServiceTests {
+
+	// A Monday, so weekends fall on the 12th/13th and 19th/20th.
+	private static final LocalDate MONDAY = LocalDate.of(2030, 1, 7);
+
+	@Mock
+	private VacationRequestRepository vacationRepository;
+
+	@Mock
+	private UserRepository userRepository;
+
+	@InjectMocks
+	private AvailabilityService availabilityService;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(availabilityService, "defaultHorizonDays", 365);
+		ReflectionTestUtils.setField(availabilityService, "maxHorizonDays", 730);
+		ReflectionTestUtils.setField(availabilityService, "maxResults", 20);
+		ReflectionTestUtils.setField(availabilityService, "businessDaysOnly", false);
+		ReflectionTestUtils.setField(availabilityService, "weekendDays",
+				new DayOfWeek[] { DayOfWeek.SATURDAY, DayOfWeek.SUNDAY });
+
+		User user = new User(1L, "user@availability.test", "secret", "User", Role.COLLABORATOR, null, true, null);
+		when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+		SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(user.getEmail(), null));
+	}
+
+	@AfterEach
+	void clearContext() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void fillsAnEmptyCalendarWithBackToBackWindows() {
+		booked();
+
+		assertThat(availabilityService.findAvailableWindows(null, 3, 3, MONDAY, 30)).containsExactly(
+				range(MONDAY, MONDAY.plusDays(2)),
+				range(MONDAY.plusDays(3), MONDAY.plusDays(5)),
+				range(MONDAY.plusDays(6), MONDAY.plusDays(8)));
+	}
+
+	@Test
+	void keepsSlidingWithinAGapUntilCountIsReached() {
+		booked(range(MONDAY.plusDays(4), MONDAY.plusDays(5)));
+
+		assertThat(availabilityService.findAvailableWindows(null, 2, 3, MONDAY, 30)).containsExactly(
+				range(MONDAY, MONDAY.plusDays(1)),
+				range(MONDAY.plusDays(2), MONDAY.plusDays(3)),
+				range(MONDAY.plusDays(6), MONDAY.plusDays(7)));
+	}
+
+	@Test
+	void skipsBackToBackBookings() {
+		booked(range(MONDAY, MONDAY.plusDays(2)),
+				range(MONDAY.plusDays(3), MONDAY.plusDays(4)),
+				range(MONDAY.plusDays(5), MONDAY.plusDays(9)));
+
+		assertThat(availabilityService.findAvailableWindows(null, 2, 1, MONDAY, 30))
+				.containsExactly(range(MONDAY.plusDays(10), MONDAY.plusDays(11)));
+	}
+
+	@Test
+	void skipsWeekendsInBusinessDayMode() {
+		ReflectionTestUtils.setField(availabilityService, "businessDaysOnly", true);
+		booked();
+
+		assertThat(availabilityService.findAvailableWindows(null, 3, 3, MONDAY.plusDays(3), 30)).containsExactly(
+				range(MONDAY.plusDays(3), MONDAY.plusDays(7)),
+				range(MONDAY.plusDays(8), MONDAY.plusDays(10)),
+				range(MONDAY.plusDays(11), MONDAY.plusDays(15)));
+	}
+
+	@Test
+	void doesNotStartWindowsOnAWeekend() {
+		ReflectionTestUtils.setField(availabilityService, "businessDaysOnly", true);
+		booked();
+
+		assertThat(availabilityService.findAvailableWindows(null, 1, 1, MONDAY.plusDays(5), 30))
+				.containsExactly(range(MONDAY.plusDays(7), MONDAY.plusDays(7)));
+	}
+
+	@Test
+	void windowsMayEndOnTheLastDayOfTheHorizonButNotBeyond() {
+		booked();
+
+		assertThat(availabilityService.findAvailableWindows(null, 5, 20, MONDAY, 10)).containsExactly(
+				range(MONDAY, MONDAY.plusDays(4)),
+				range(MONDAY.plusDays(5), MONDAY.plusDays(9)));
+		assertThat(availabilityService.findAvailableWindows(null, 5, 20, MONDAY, 9))
+				.containsExactly(range(MONDAY, MONDAY.plusDays(4)));
+	}
+
+	@Test
+	void rejectsHorizonsOutsideTheConfiguredRange() {
+		assertThatThrownBy(() -> availabilityService.findAvailableWindows(null, 1, 1, MONDAY, Integer.MAX_VALUE))
+				.isInstanceOf(InvalidRequestException.class);
+		assertThatThrownBy(() -> availabilityService.findAvailableWindows(null, 1, 1, MONDAY, 0))
+				.isInstanceOf(InvalidRequestException.class);
+	}
+
+	@Test
+	void rejectsStartsOutOfDateRange() {
+		assertThatThrownBy(() -> availabilityService.findAvailableWindows(null, 1, 1, LocalDate.MAX, 30))
+				.isInstanceOf(InvalidRequestException.class);
+	}
+
+	private void booked(DateRange... ranges) {
+		when(vacationRepository.findBookedRanges(eq(1L), any(), any())).thenReturn(List.of(ranges));
+	}
+
+	private static DateRange range(LocalDate start, LocalDate end) {
+		return new DateRange(start, end);
+	}
+}
@@ -0,0 +1,136 @@
+package com.taskflow.vacation.service;
+
+import com.taskflow.vacation.entity.VacationStatus;
+import com.taskflow.vacation.exception.NotFoundException;
+import com.taskflow.vacation.exception.ServiceUnavailableException;
+import com.taskflow.vacation.repository.UserRepository;
+import com.taskflow.vacation.repository.VacationRequestRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A single dashboard thread makes the reads run one after another, so a stuck
+ * first read leaves the others queued behind it.
+ */
+@SpringBootTest(properties = {
+		"executors.dashboard.pool-size=1",
+		"dashboard.timeout-ms=300"
+})
+@AutoConfigureMockMvc
+@WithMockUser(username = "admin@taskflow.com", roles = "ADMIN")
+class DashboardServiceTests {
+
+	@Autowired
+	private DashboardService dashboardService;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoSpyBean
+	private UserRepository userRepository;
+
+	@MockitoSpyBean
+	private VacationRequestRepository vacationRepository;
+
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	@AfterEach
+	void releaseStuckReads() {
+		release.countDown();
+	}
+
+	@Test
+	void timeoutCancelsTheReadsThatHaveNotStarted() {
+		blockTeamRead();
+
+		assertThatThrownBy(() -> dashboardService.getDashboard()).isInstanceOf(TimeoutException.class);
+		release.countDown();
+
+		verify(vacationRepository, after(500).never()).countByStatus(any(VacationStatus.class));
+		verify(vacationRepository, never()).findApprovedBetween(any(), any());
+	}
+
+	@Test
+	void timeoutIsAnsweredWithServiceUnavailable() throws Exception {
+		blockTeamRead();
+
+		mockMvc.perform(get("/api/dashboard"))
+				.andExpect(status().isServiceUnavailable())
+				.andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+				.andExpect(jsonPath("$.error").value("WORKLOAD_TIMEOUT"));
+	}
+
+	@Test
+	void failedReadsAreRethrownAsThemselves() {
+		DataAccessResourceFailureException failure = new DataAccessResourceFailureException("database unavailable");
+		doThrow(failure).when(vacationRepository).countByStatus(VacationStatus.PENDING);
+
+		assertThatThrownBy(() -> dashboardService.getDashboard()).isSameAs(failure);
+	}
+
+	@Test
+	void businessFailuresKeepTheirStatus() throws Exception {
+		doThrow(new NotFoundException("USER_NOT_FOUND", "User not found"))
+				.when(vacationRepository).countByStatus(VacationStatus.PENDING);
+
+		mockMvc.perform(get("/api/dashboard"))
+				.andExpect(status().isNotFound())
+				.andExpect(jsonPath("$.error").value("USER_NOT_FOUND"));
+	}
+
+	@Test
+	void interruptionIsAnsweredWithServiceUnavailable() {
+		blockTeamRead();
+		Thread caller = Thread.currentThread();
+		Thread interrupter = new Thread(() -> {
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				return;
+			}
+			caller.interrupt();
+		});
+		interrupter.start();
+
+		try {
+			assertThatThrownBy(() -> dashboardService.getDashboard())
+					.isInstanceOf(ServiceUnavailableException.class)
+					.hasFieldOrPropertyWithValue("error", "WORKLOAD_INTERRUPTED");
+			assertThat(Thread.currentThread().isInterrupted()).isTrue();
+		} finally {
+			Thread.interrupted();
+		}
+	}
+
+	private void blockTeamRead() {
+		doAnswer(invocation -> {
+			release.await(5, TimeUnit.SECONDS);
+			return invocation.callRealMethod();
+		}).when(userRepository).findAll();
+	}
+}
@@ -0,0 +1,170 @@
+package com.taskflow.vacation.service;
+
+import com.taskflow.vacation.entity.NotificationOutbox;
+import com.taskflow.vacation.entity.NotificationType;
+import com.taskflow.vacation.entity.OutboxStatus;
+import com.taskflow.vacation.repository.NotificationOutboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = {
+		"notifications.enabled=true",
+		"notifications.dispatch-interval-ms=3600000",
+		"notifications.max-attempts=2",
+		"notifications.backoff-base-ms=60000",
+		"management.health.mail.enabled=false"
+})
+class NotificationDispatcherTests {
+
+	@Autowired
+	private NotificationDispatcher dispatcher;
+
+	@Autowired
+	private NotificationOutboxRepository outboxRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockitoBean
+	private JavaMailSender mailSender;
+
+	private final List<Long> created = new ArrayList<>();
+
+	@AfterEach
+	void cleanUp() {
+		outboxRepository.deleteAllById(created);
+	}
+
+	@Test
+	void foldsEventsForTheSameRecipientIntoOneDigest() {
+		Long first = enqueue("alice@outbox.test", "Vacation requested");
+		Long second = enqueue("alice@outbox.test", "Vacation approved");
+		Long third = enqueue("bob@outbox.test", "Vacation rejected");
+
+		dispatcher.dispatch();
+
+		ArgumentCaptor<SimpleMailMessage> mails = ArgumentCaptor.forClass(SimpleMailMessage.class);
+		verify(mailSender, times(2)).send(mails.capture());
+		SimpleMailMessage digest = mails.getAllValues().stream()
+				.filter(m -> m.getTo()[0].equals("alice@outbox.test"))
+				.findFirst().orElseThrow();
+		assertThat(digest.getSubject()).isEqualTo("2 vacation updates");
+		assertThat(digest.getText()).contains("Vacation requested", "Vacation approved");
+
+		for (Long id : List.of(first, second, third)) {
+			NotificationOutbox event = outboxRepository.findById(id).orElseThrow();
+			assertThat(event.getStatus()).isEqualTo(OutboxStatus.SENT);
+			assertThat(event.getSentAt()).isNotNull();
+		}
+	}
+
+	@Test
+	void reschedulesFailedDeliveryAndRetriesUntilMaxAttempts() {
+		Long id = enqueue("carol@outbox.test", "Vacation requested");
+		doThrow(new MailSendException("relay down")).when(mailSender).send(any(SimpleMailMessage.class));
+
+		dispatcher.dispatch();
+
+		NotificationOutbox event = outboxRepository.findById(id).orElseThrow();
+		assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+		assertThat(event.getAttempts()).isEqualTo(1);
+		assertThat(event.getLastError()).contains("relay down");
+		assertThat(event.getNextAttemptAt()).isAfter(LocalDateTime.now());
+
+		// Not due yet: the next run leaves it alone.
+		dispatcher.dispatch();
+		verify(mailSender, times(1)).send(any(SimpleMailMessage.class));
+
+		makeDue(id);
+		dispatcher.dispatch();
+
+		event = outboxRepository.findById(id).orElseThrow();
+		assertThat(event.getStatus()).isEqualTo(OutboxStatus.FAILED);
+		assertThat(event.getAttempts()).isEqualTo(2);
+	}
+
+	@Test
+	void retrySucceedsAfterTransientFailure() {
+		Long id = enqueue("dave@outbox.test", "Vacation approved");
+		doThrow(new MailSendException("timeout")).doNothing().when(mailSender).send(any(SimpleMailMessage.class));
+
+		dispatcher.dispatch();
+		makeDue(id);
+		dispatcher.dispatch();
+
+		NotificationOutbox event = outboxRepository.findById(id).orElseThrow();
+		assertThat(event.getStatus()).isEqualTo(OutboxStatus.SENT);
+		assertThat(event.getAttempts()).isEqualTo(1);
+		assertThat(event.getLastError()).isNull();
+	}
+
+	@Test
+	void reclaimsRowsWhoseSendingLeaseExpired() {
+		Long id = enqueue("erin@outbox.test", "Vacation requested");
+		NotificationOutbox stuck = outboxRepository.findById(id).orElseThrow();
+		stuck.setStatus(OutboxStatus.SENDING);
+		stuck.setNextAttemptAt(LocalDateTime.now().minusMinutes(1));
+		outboxRepository.save(stuck);
+		doNothing().when(mailSender).send(any(SimpleMailMessage.class));
+
+		dispatcher.dispatch();
+
+		assertThat(outboxRepository.findById(id).orElseThrow().getStatus()).isEqualTo(OutboxStatus.SENT);
+	}
+
+	@Test
+	void purgesOnlyFinishedRowsPastRetention() {
+		Long oldSent = enqueue("frank@outbox.test", "Vacation approved");
+		Long oldFailed = enqueue("frank@outbox.test", "Vacation rejected");
+		Long oldPending = enqueue("frank@outbox.test", "Vacation requested");
+		Long recentSent = enqueue("frank@outbox.test", "Vacation approved");
+		jdbcTemplate.update("UPDATE notification_outbox SET status = 'SENT' WHERE id IN (?, ?)", oldSent, recentSent);
+		jdbcTemplate.update("UPDATE notification_outbox SET status = 'FAILED' WHERE id = ?", oldFailed);
+		jdbcTemplate.update("UPDATE notification_outbox SET created_at = now() - interval '90 days', " +
+				"next_attempt_at = now() + interval '1 day' WHERE id IN (?, ?, ?)", oldSent, oldFailed, oldPending);
+
+		dispatcher.purgeFinished();
+
+		assertThat(outboxRepository.existsById(oldSent)).isFalse();
+		assertThat(outboxRepository.existsById(oldFailed)).isFalse();
+		assertThat(outboxRepository.existsById(oldPending)).isTrue();
+		assertThat(outboxRepository.existsById(recentSent)).isTrue();
+	}
+
+	private Long enqueue(String recipient, String message) {
+		NotificationOutbox event = new NotificationOutbox();
+		event.setRecipientEmail(recipient);
+		event.setRecipientName("Test");
+		event.setType(NotificationType.VACATION_REQUESTED);
+		event.setMessage(message);
+		event.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+		Long id = outboxRepository.save(event).getId();
+		created.add(id);
+		return id;
+	}
+
+	private void makeDue(Long id) {
+		NotificationOutbox event = outboxRepository.findById(id).orElseThrow();
+		event.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+		outboxRepository.save(event);
+	}
+}
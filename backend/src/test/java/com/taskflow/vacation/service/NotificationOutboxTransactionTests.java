@@ -0,0 +1,188 @@
+package com.taskflow.vacation.service;
+
+import com.taskflow.vacation.dto.CreateVacationRequest;
+import com.taskflow.vacation.entity.NotificationOutbox;
+import com.taskflow.vacation.entity.Role;
+import com.taskflow.vacation.entity.User;
+import com.taskflow.vacation.entity.VacationRequest;
+import com.taskflow.vacation.entity.VacationStatus;
+import com.taskflow.vacation.repository.NotificationOutboxRepository;
+import com.taskflow.vacation.repository.UserRepository;
+import com.taskflow.vacation.repository.VacationRequestRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+
+/**
+ * The outbox row and the vacation status change it announces must commit or
+ * roll back together.
+ */
+@SpringBootTest
+class NotificationOutboxTransactionTests {
+
+	@Autowired
+	private VacationService vacationService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private VacationRequestRepository vacationRepository;
+
+	@MockitoSpyBean
+	private NotificationOutboxRepository outboxRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private User manager;
+	private User employee;
+
+	@BeforeEach
+	void seed() {
+		manager = userRepository.save(new User(null, "manager@outbox-tx.test", "secret", "Outbox Manager",
+				Role.MANAGER, null, true, null));
+		employee = userRepository.save(new User(null, "employee@outbox-tx.test", "secret", "Outbox Employee",
+				Role.COLLABORATOR, manager, true, null));
+	}
+
+	@AfterEach
+	void cleanUp() {
+		SecurityContextHolder.clearContext();
+		jdbcTemplate.update("DELETE FROM notification_outbox WHERE recipient_email LIKE '%@outbox-tx.test'");
+		jdbcTemplate.update("DELETE FROM vacation_requests WHERE user_id = ?", employee.getId());
+		userRepository.deleteAllById(List.of(employee.getId(), manager.getId()));
+	}
+
+	@Test
+	void createCommitsTheRequestAndItsNotification() {
+		actAs(employee);
+
+		Long id = vacationService.createVacation(request()).getId();
+
+		assertThat(vacationRepository.existsById(id)).isTrue();
+		assertThat(outbox(id)).singleElement().satisfies(row -> {
+			assertThat(row.get("type")).isEqualTo("VACATION_REQUESTED");
+			assertThat(row.get("recipient_email")).isEqualTo(manager.getEmail());
+		});
+	}
+
+	@Test
+	void createRollsBackTheNotificationWithTheRequest() {
+		actAs(employee);
+
+		Long id = transactionTemplate.execute(status -> {
+			Long created = vacationService.createVacation(request()).getId();
+			status.setRollbackOnly();
+			return created;
+		});
+
+		assertThat(vacationRepository.existsById(id)).isFalse();
+		assertThat(outbox(id)).isEmpty();
+	}
+
+	@Test
+	void approveCommitsTheStatusAndItsNotification() {
+		Long id = pendingVacation();
+		actAs(manager);
+
+		vacationService.approveVacation(id);
+
+		assertThat(status(id)).isEqualTo(VacationStatus.APPROVED);
+		assertThat(outbox(id)).singleElement().satisfies(row -> {
+			assertThat(row.get("type")).isEqualTo("VACATION_APPROVED");
+			assertThat(row.get("recipient_email")).isEqualTo(employee.getEmail());
+		});
+	}
+
+	@Test
+	void approveIsUndoneWhenTheNotificationCannotBeWritten() {
+		Long id = pendingVacation();
+		actAs(manager);
+		doThrow(new DataAccessResourceFailureException("outbox unavailable"))
+				.when(outboxRepository).save(any(NotificationOutbox.class));
+
+		assertThatThrownBy(() -> vacationService.approveVacation(id))
+				.isInstanceOf(DataAccessResourceFailureException.class);
+
+		assertThat(status(id)).isEqualTo(VacationStatus.PENDING);
+		assertThat(outbox(id)).isEmpty();
+	}
+
+	@Test
+	void rejectRollsBackTheNotificationWithTheStatus() {
+		Long id = pendingVacation();
+		actAs(manager);
+
+		transactionTemplate.executeWithoutResult(status -> {
+			vacationService.rejectVacation(id);
+			status.setRollbackOnly();
+		});
+
+		assertThat(status(id)).isEqualTo(VacationStatus.PENDING);
+		assertThat(outbox(id)).isEmpty();
+	}
+
+	@Test
+	void rejectIsUndoneWhenTheNotificationCannotBeWritten() {
+		Long id = pendingVacation();
+		actAs(manager);
+		doThrow(new DataAccessResourceFailureException("outbox unavailable"))
+				.when(outboxRepository).save(any(NotificationOutbox.class));
+
+		assertThatThrownBy(() -> vacationService.rejectVacation(id))
+				.isInstanceOf(DataAccessResourceFailureException.class);
+
+		assertThat(status(id)).isEqualTo(VacationStatus.PENDING);
+		assertThat(outbox(id)).isEmpty();
+	}
+
+	private Long pendingVacation() {
+		VacationRequest vacation = new VacationRequest();
+		vacation.setUser(employee);
+		vacation.setStartDate(LocalDate.now().plusMonths(2));
+		vacation.setEndDate(LocalDate.now().plusMonths(2).plusDays(3));
+		vacation.setStatus(VacationStatus.PENDING);
+		return vacationRepository.save(vacation).getId();
+	}
+
+	private CreateVacationRequest request() {
+		CreateVacationRequest request = new CreateVacationRequest();
+		request.setStartDate(LocalDate.now().plusMonths(3));
+		request.setEndDate(LocalDate.now().plusMonths(3).plusDays(2));
+		return request;
+	}
+
+	private VacationStatus status(Long id) {
+		return vacationRepository.findById(id).orElseThrow().getStatus();
+	}
+
+	private List<Map<String, Object>> outbox(Long vacationId) {
+		return jdbcTemplate.queryForList(
+				"SELECT type, recipient_email FROM notification_outbox WHERE vacation_id = ?", vacationId);
+	}
+
+	private static void actAs(User user) {
+		SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(user.getEmail(), null));
+	}
+}
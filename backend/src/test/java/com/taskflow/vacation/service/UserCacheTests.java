@@ -0,0 +1,112 @@
+package com.taskflow.vacation.service;
+
+import com.taskflow.vacation.config.CacheConfig;
+import com.taskflow.vacation.dto.UpdateUserRequest;
+import com.taskflow.vacation.entity.Role;
+import com.taskflow.vacation.entity.User;
+import com.taskflow.vacation.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Every repository call below runs in its own session, so reads are served by
+ * the second-level cache rather than the persistence context.
+ */
+@SpringBootTest(properties = "second-level-cache.statistics=true")
+class UserCacheTests {
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	private User manager;
+	private User otherManager;
+	private User report;
+
+	@BeforeEach
+	void seed() {
+		manager = userRepository.save(user("manager@cache.test", Role.MANAGER, null));
+		otherManager = userRepository.save(user("other-manager@cache.test", Role.MANAGER, null));
+		report = userRepository.save(user("report@cache.test", Role.COLLABORATOR, manager));
+	}
+
+	@AfterEach
+	void cleanUp() {
+		userRepository.deleteAllById(List.of(report.getId(), manager.getId(), otherManager.getId()));
+	}
+
+	@Test
+	void readsAreServedFromTheCache() {
+		Statistics statistics = statistics();
+		userRepository.findById(report.getId());
+		userRepository.findByManager_Id(manager.getId());
+		long userHits = statistics.getDomainDataRegionStatistics(CacheConfig.USERS_REGION).getHitCount();
+		long rosterHits = statistics.getQueryRegionStatistics(CacheConfig.TEAM_ROSTERS_REGION).getHitCount();
+
+		userRepository.findById(report.getId());
+		userRepository.findByManager_Id(manager.getId());
+
+		assertThat(statistics.getDomainDataRegionStatistics(CacheConfig.USERS_REGION).getHitCount()).isGreaterThan(userHits);
+		assertThat(statistics.getQueryRegionStatistics(CacheConfig.TEAM_ROSTERS_REGION).getHitCount()).isGreaterThan(rosterHits);
+	}
+
+	@Test
+	void updatingAUserInvalidatesTheUserAndBothRosters() {
+		assertThat(userRepository.findById(report.getId()).orElseThrow().getName()).isEqualTo("report@cache.test");
+		assertThat(names(manager)).containsExactly("report@cache.test");
+		assertThat(names(otherManager)).isEmpty();
+		assertThat(entityManagerFactory.getCache().contains(User.class, report.getId())).isTrue();
+
+		UpdateUserRequest request = new UpdateUserRequest();
+		request.setName("Renamed");
+		request.setManagerId(otherManager.getId());
+		userService.updateUser(report.getId(), request);
+
+		assertThat(userRepository.findById(report.getId()).orElseThrow().getName()).isEqualTo("Renamed");
+		assertThat(names(manager)).isEmpty();
+		assertThat(names(otherManager)).containsExactly("Renamed");
+	}
+
+	@Test
+	void bulkUpdatesInvalidateTheCachedUser() {
+		assertThat(userRepository.findById(report.getId()).orElseThrow().isActive()).isTrue();
+		assertThat(userRepository.findByManager_Id(manager.getId())).allMatch(User::isActive);
+
+		transactionTemplate.executeWithoutResult(status -> userRepository.deactivateAll(Set.of(report.getId())));
+
+		assertThat(userRepository.findById(report.getId()).orElseThrow().isActive()).isFalse();
+		assertThat(userRepository.findByManager_Id(manager.getId())).noneMatch(User::isActive);
+	}
+
+	private List<String> names(User manager) {
+		return userRepository.findByManager_Id(manager.getId()).stream().map(User::getName).toList();
+	}
+
+	private Statistics statistics() {
+		return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	private static User user(String email, Role role, User manager) {
+		return new User(null, email, "secret", email, role, manager, true, null);
+	}
+}
@@ -0,0 +1,236 @@
+package com.taskflow.vacation.service;
+
+import com.jayway.jsonpath.JsonPath;
+import com.taskflow.vacation.dto.OffboardMode;
+import com.taskflow.vacation.dto.OffboardUsersRequest;
+import com.taskflow.vacation.dto.OffboardUsersResponse;
+import com.taskflow.vacation.entity.Role;
+import com.taskflow.vacation.entity.User;
+import com.taskflow.vacation.entity.VacationRequest;
+import com.taskflow.vacation.entity.VacationStatus;
+import com.taskflow.vacation.exception.ConflictException;
+import com.taskflow.vacation.exception.InvalidRequestException;
+import com.taskflow.vacation.repository.UserRepository;
+import com.taskflow.vacation.repository.VacationRequestRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.test.context.TestSecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class UserOffboardingTests {
+
+	private static final int CLOSED_YEAR = 1990;
+	private static final String ARCHIVED_TABLE = "vacation_archive.vacation_requests_y" + CLOSED_YEAR;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private VacationPartitionService partitionService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private VacationRequestRepository vacationRepository;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	private final List<Long> users = new ArrayList<>();
+
+	@BeforeEach
+	void actAsAdmin() {
+		TestSecurityContextHolder.setAuthentication(new TestingAuthenticationToken("admin@taskflow.com", null));
+	}
+
+	@AfterEach
+	void cleanUp() {
+		TestSecurityContextHolder.clearContext();
+		if (users.isEmpty()) {
+			return;
+		}
+		String ids = users.stream().map(String::valueOf).collect(Collectors.joining(","));
+		jdbcTemplate.update("DELETE FROM vacation_requests WHERE user_id IN (" + ids + ")");
+		if (Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, ARCHIVED_TABLE))) {
+			jdbcTemplate.execute("DROP VIEW IF EXISTS vacation_requests_all");
+			jdbcTemplate.execute("DROP TABLE " + ARCHIVED_TABLE);
+			partitionService.maintain();
+		}
+		jdbcTemplate.update("UPDATE users SET manager_id = NULL WHERE id IN (" + ids + ")");
+		userRepository.deleteAllById(users);
+	}
+
+	@Test
+	void rejectsOffboardingYourself() {
+		User admin = userRepository.findByEmail("admin@taskflow.com").orElseThrow();
+		User other = user("other@offboarding.test", Role.COLLABORATOR, null);
+
+		assertThatThrownBy(() -> userService.offboardUsers(request(OffboardMode.DEACTIVATE, null, admin, other)))
+				.isInstanceOf(InvalidRequestException.class)
+				.hasMessage("You cannot offboard yourself");
+
+		assertThat(userRepository.findById(admin.getId()).orElseThrow().isActive()).isTrue();
+		assertThat(userRepository.findById(other.getId()).orElseThrow().isActive()).isTrue();
+	}
+
+	@Test
+	void requiresAnActiveNewManagerWhenThereAreDirectReports() {
+		User departing = user("departing@offboarding.test", Role.MANAGER, null);
+		User report = user("report@offboarding.test", Role.COLLABORATOR, departing);
+		User inactive = user("inactive@offboarding.test", Role.MANAGER, null);
+		inactive.setActive(false);
+		userRepository.save(inactive);
+
+		assertThatThrownBy(() -> userService.offboardUsers(request(OffboardMode.DEACTIVATE, null, departing)))
+				.isInstanceOf(InvalidRequestException.class)
+				.hasMessage("A new manager is required to take over direct reports");
+		assertThatThrownBy(() -> userService.offboardUsers(request(OffboardMode.DEACTIVATE, Long.MAX_VALUE, departing)))
+				.isInstanceOf(InvalidRequestException.class)
+				.hasMessage("Manager not found");
+		assertThatThrownBy(() -> userService.offboardUsers(request(OffboardMode.DEACTIVATE, inactive.getId(), departing)))
+				.isInstanceOf(InvalidRequestException.class)
+				.hasMessage("Manager not found");
+
+		assertThat(userRepository.findById(departing.getId()).orElseThrow().isActive()).isTrue();
+		assertThat(userRepository.findById(report.getId()).orElseThrow().getManager().getId()).isEqualTo(departing.getId());
+	}
+
+	@Test
+	void deactivateRejectsPendingVacationsAndLocksTheUserOut() throws Exception {
+		User departing = user("locked-out@offboarding.test", Role.COLLABORATOR, null);
+		Long pending = vacation(departing, LocalDate.now().plusMonths(1), VacationStatus.PENDING);
+		Long approved = vacation(departing, LocalDate.now().plusMonths(2), VacationStatus.APPROVED);
+		TestSecurityContextHolder.clearContext();
+		String token = JsonPath.read(login(departing.getEmail()).andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString(), "$.token");
+		actAsAdmin();
+
+		OffboardUsersResponse response = userService.offboardUsers(request(OffboardMode.DEACTIVATE, null, departing));
+
+		assertThat(response).isEqualTo(new OffboardUsersResponse(1, 0, 1));
+		assertThat(vacationRepository.findById(pending).orElseThrow().getStatus()).isEqualTo(VacationStatus.REJECTED);
+		assertThat(vacationRepository.findById(approved).orElseThrow().getStatus()).isEqualTo(VacationStatus.APPROVED);
+		assertThat(userRepository.findById(departing.getId()).orElseThrow().isActive()).isFalse();
+		// MockMvc would otherwise send the requests below as the admin.
+		TestSecurityContextHolder.clearContext();
+		login(departing.getEmail()).andExpect(status().isUnauthorized());
+		mockMvc.perform(get("/api/vacations").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+				.andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	void deleteKeepsPendingVacationsWhenApprovedHistoryBlocksIt() {
+		User departing = user("approved-history@offboarding.test", Role.COLLABORATOR, null);
+		Long pending = vacation(departing, LocalDate.now().plusMonths(1), VacationStatus.PENDING);
+		vacation(departing, LocalDate.now().minusMonths(1), VacationStatus.APPROVED);
+
+		assertThatThrownBy(() -> userService.offboardUsers(request(OffboardMode.DELETE, null, departing)))
+				.isInstanceOf(ConflictException.class)
+				.hasFieldOrPropertyWithValue("error", "USER_HAS_VACATIONS");
+
+		assertThat(vacationRepository.existsById(pending)).isTrue();
+		assertThat(userRepository.existsById(departing.getId())).isTrue();
+	}
+
+	@Test
+	void deleteKeepsPendingVacationsWhenArchivedHistoryBlocksIt() {
+		User departing = user("archived-history@offboarding.test", Role.COLLABORATOR, null);
+		Long pending = vacation(departing, LocalDate.now().plusMonths(1), VacationStatus.PENDING);
+		vacation(departing, LocalDate.of(CLOSED_YEAR, 6, 1), VacationStatus.APPROVED);
+		partitionService.maintain();
+
+		assertThatThrownBy(() -> userService.offboardUsers(request(OffboardMode.DELETE, null, departing)))
+				.isInstanceOf(ConflictException.class)
+				.hasFieldOrPropertyWithValue("error", "USER_HAS_VACATIONS");
+
+		assertThat(vacationRepository.existsById(pending)).isTrue();
+		assertThat(userRepository.existsById(departing.getId())).isTrue();
+	}
+
+	@Test
+	void reassignsOnlyDirectReports() {
+		User departing = user("departing-manager@offboarding.test", Role.MANAGER, null);
+		User firstReport = user("first-report@offboarding.test", Role.MANAGER, departing);
+		User secondReport = user("second-report@offboarding.test", Role.COLLABORATOR, departing);
+		User indirectReport = user("indirect-report@offboarding.test", Role.COLLABORATOR, firstReport);
+		User newManager = user("new-manager@offboarding.test", Role.MANAGER, null);
+		User existingReport = user("existing-report@offboarding.test", Role.COLLABORATOR, newManager);
+
+		OffboardUsersResponse response = userService.offboardUsers(request(OffboardMode.DELETE, newManager.getId(), departing));
+
+		assertThat(response).isEqualTo(new OffboardUsersResponse(1, 2, 0));
+		assertThat(userRepository.existsById(departing.getId())).isFalse();
+		assertThat(managerOf(firstReport)).isEqualTo(newManager.getId());
+		assertThat(managerOf(secondReport)).isEqualTo(newManager.getId());
+		assertThat(managerOf(indirectReport)).isEqualTo(firstReport.getId());
+		assertThat(managerOf(existingReport)).isEqualTo(newManager.getId());
+	}
+
+	private User user(String email, Role role, User manager) {
+		User user = userRepository.save(new User(null, email, passwordEncoder.encode("secret"), email, role, manager, true, null));
+		users.add(user.getId());
+		return user;
+	}
+
+	private Long vacation(User user, LocalDate start, VacationStatus status) {
+		VacationRequest vacation = new VacationRequest();
+		vacation.setUser(user);
+		vacation.setStartDate(start);
+		vacation.setEndDate(start.plusDays(2));
+		vacation.setStatus(status);
+		return vacationRepository.save(vacation).getId();
+	}
+
+	private Long managerOf(User user) {
+		return userRepository.findById(user.getId()).orElseThrow().getManager().getId();
+	}
+
+	private ResultActions login(String email) throws Exception {
+		return mockMvc.perform(post("/api/auth/login")
+				.with(request -> {
+					request.setRemoteAddr("10.0.1.1");
+					return request;
+				})
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"email\":\"" + email + "\",\"password\":\"secret\"}"));
+	}
+
+	private static OffboardUsersRequest request(OffboardMode mode, Long newManagerId, User... users) {
+		OffboardUsersRequest request = new OffboardUsersRequest();
+		request.setMode(mode);
+		request.setNewManagerId(newManagerId);
+		request.setUserIds(Arrays.stream(users).map(User::getId).collect(Collectors.toSet()));
+		return request;
+	}
+}
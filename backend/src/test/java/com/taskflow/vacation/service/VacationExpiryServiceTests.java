@@ -0,0 +1,133 @@
+package com.taskflow.vacation.service;
+
+import com.taskflow.vacation.entity.Role;
+import com.taskflow.vacation.entity.User;
+import com.taskflow.vacation.entity.VacationRequest;
+import com.taskflow.vacation.entity.VacationStatus;
+import com.taskflow.vacation.repository.UserRepository;
+import com.taskflow.vacation.repository.VacationRequestRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "expiry.chunk-size=2")
+class VacationExpiryServiceTests {
+
+	@Autowired
+	private VacationExpiryService expiryService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private VacationRequestRepository vacationRepository;
+
+	@Autowired
+	private DataSource dataSource;
+
+	private User user;
+	private final List<Long> created = new ArrayList<>();
+
+	@BeforeEach
+	void seed() {
+		user = userRepository.save(new User(null, "expiry@expiry.test", "secret", "Expiry Test",
+				Role.COLLABORATOR, null, true, null));
+	}
+
+	@AfterEach
+	void cleanUp() {
+		vacationRepository.deleteAllById(created);
+		userRepository.deleteById(user.getId());
+	}
+
+	@Test
+	void expiresStalePendingRequestsAcrossSeveralChunks() {
+		List<Long> stale = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			stale.add(vacation(LocalDate.now().minusDays(i + 1), VacationStatus.PENDING));
+		}
+		Long upcoming = vacation(LocalDate.now().plusDays(7), VacationStatus.PENDING);
+		Long startsToday = vacation(LocalDate.now(), VacationStatus.PENDING);
+		Long approved = vacation(LocalDate.now().minusDays(3), VacationStatus.APPROVED);
+
+		expiryService.expireStaleRequests();
+
+		stale.forEach(id -> assertThat(status(id)).isEqualTo(VacationStatus.EXPIRED));
+		assertThat(status(upcoming)).isEqualTo(VacationStatus.PENDING);
+		assertThat(status(startsToday)).isEqualTo(VacationStatus.PENDING);
+		assertThat(status(approved)).isEqualTo(VacationStatus.APPROVED);
+	}
+
+	@Test
+	void skipsRowsLockedByAnotherTransaction() throws Exception {
+		Long locked = vacation(LocalDate.now().minusDays(2), VacationStatus.PENDING);
+		Long free = vacation(LocalDate.now().minusDays(2), VacationStatus.PENDING);
+
+		try (Connection other = dataSource.getConnection()) {
+			other.setAutoCommit(false);
+			try (PreparedStatement lock = other.prepareStatement("SELECT id FROM vacation_requests WHERE id = ? FOR UPDATE")) {
+				lock.setLong(1, locked);
+				lock.executeQuery().close();
+			}
+
+			expiryService.expireStaleRequests();
+
+			other.rollback();
+		}
+
+		assertThat(status(locked)).isEqualTo(VacationStatus.PENDING);
+		assertThat(status(free)).isEqualTo(VacationStatus.EXPIRED);
+	}
+
+	@Test
+	void doesNothingWhileAnotherNodeHoldsTheLock() throws Exception {
+		Long stale = vacation(LocalDate.now().minusDays(2), VacationStatus.PENDING);
+		long key = (long) ReflectionTestUtils.getField(VacationExpiryService.class, "ADVISORY_LOCK_KEY");
+
+		try (Connection other = dataSource.getConnection()) {
+			try (PreparedStatement lock = other.prepareStatement("SELECT pg_advisory_lock(?)")) {
+				lock.setLong(1, key);
+				lock.executeQuery().close();
+			}
+			try {
+				expiryService.expireStaleRequests();
+				assertThat(status(stale)).isEqualTo(VacationStatus.PENDING);
+			} finally {
+				try (PreparedStatement unlock = other.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+					unlock.setLong(1, key);
+					unlock.executeQuery().close();
+				}
+			}
+		}
+
+		expiryService.expireStaleRequests();
+		assertThat(status(stale)).isEqualTo(VacationStatus.EXPIRED);
+	}
+
+	private Long vacation(LocalDate start, VacationStatus status) {
+		VacationRequest vacation = new VacationRequest();
+		vacation.setUser(user);
+		vacation.setStartDate(start);
+		vacation.setEndDate(start.plusDays(1));
+		vacation.setStatus(status);
+		Long id = vacationRepository.save(vacation).getId();
+		created.add(id);
+		return id;
+	}
+
+	private VacationStatus status(Long id) {
+		return vacationRepository.findById(id).orElseThrow().getStatus();
+	}
+}
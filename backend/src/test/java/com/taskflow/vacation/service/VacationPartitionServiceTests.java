@@ -0,0 +1,193 @@
+package com.taskflow.vacation.service;
+
+import com.taskflow.vacation.dto.CreateVacationRequest;
+import com.taskflow.vacation.dto.VacationResponse;
+import com.taskflow.vacation.entity.Role;
+import com.taskflow.vacation.entity.User;
+import com.taskflow.vacation.entity.VacationRequest;
+import com.taskflow.vacation.entity.VacationStatus;
+import com.taskflow.vacation.exception.ConflictException;
+import com.taskflow.vacation.exception.InvalidRequestException;
+import com.taskflow.vacation.repository.UserRepository;
+import com.taskflow.vacation.repository.VacationRequestRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class VacationPartitionServiceTests {
+
+	private static final int CLOSED_YEAR = 1990;
+	private static final String ARCHIVED_TABLE = "vacation_archive.vacation_requests_y" + CLOSED_YEAR;
+
+	@Autowired
+	private VacationPartitionService partitionService;
+
+	@Autowired
+	private VacationService vacationService;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private VacationRequestRepository vacationRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private User user;
+	private Long closedYearVacation;
+	private Long currentYearVacation;
+
+	@BeforeEach
+	void seed() {
+		user = userRepository.save(new User(null, "partition@archive.test", "secret", "Partition Test",
+				Role.COLLABORATOR, null, true, null));
+		closedYearVacation = vacation(LocalDate.of(CLOSED_YEAR, 7, 1));
+		currentYearVacation = vacation(LocalDate.now().withDayOfYear(1));
+	}
+
+	@AfterEach
+	void cleanUp() {
+		jdbcTemplate.execute("DROP VIEW IF EXISTS vacation_requests_all");
+		jdbcTemplate.execute("DROP TABLE IF EXISTS " + ARCHIVED_TABLE);
+		jdbcTemplate.execute("ALTER TABLE vacation_requests DROP COLUMN IF EXISTS archive_test_note");
+		jdbcTemplate.update("DELETE FROM vacation_requests WHERE user_id = ?", user.getId());
+		userRepository.deleteById(user.getId());
+		partitionService.maintain();
+	}
+
+	@Test
+	void createsPartitionsForComingYears() {
+		partitionService.maintain();
+
+		int currentYear = LocalDate.now().getYear();
+		assertThat(partitions()).contains(
+				"vacation_requests_y" + currentYear,
+				"vacation_requests_y" + (currentYear + 1),
+				"vacation_requests_y" + (currentYear + 2),
+				"vacation_requests_default");
+		assertThat(jdbcTemplate.queryForObject("SELECT tableoid::regclass::text FROM vacation_requests WHERE id = ?",
+				String.class, currentYearVacation)).isEqualTo("vacation_requests_y" + LocalDate.now().getYear());
+	}
+
+	@Test
+	@WithMockUser(username = "admin@taskflow.com", roles = "ADMIN")
+	void archivesClosedYearsAndReadsThemOnlyWhenAsked() {
+		partitionService.maintain();
+
+		assertThat(partitions()).doesNotContain("vacation_requests_y" + CLOSED_YEAR);
+		assertThat(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, ARCHIVED_TABLE)).isTrue();
+		assertThat(vacationRepository.findById(closedYearVacation)).isEmpty();
+
+		assertThat(ids(vacationService.getAllVacations(false)))
+				.contains(currentYearVacation)
+				.doesNotContain(closedYearVacation);
+		assertThat(ids(vacationService.getAllVacations(true)))
+				.contains(currentYearVacation, closedYearVacation);
+	}
+
+	@Test
+	@WithMockUser(username = "admin@taskflow.com", roles = "ADMIN")
+	void allViewSurvivesColumnsAddedAfterArchiving() {
+		partitionService.maintain();
+
+		jdbcTemplate.execute("ALTER TABLE vacation_requests ADD COLUMN archive_test_note text");
+		partitionService.maintain();
+
+		assertThat(jdbcTemplate.queryForList("SELECT archive_test_note FROM vacation_requests_all WHERE id = ?",
+				String.class, closedYearVacation)).containsExactly((String) null);
+		assertThat(ids(vacationService.getAllVacations(true))).contains(closedYearVacation);
+	}
+
+	@Test
+	void archivedVacationsBlockUserDeletion() {
+		vacationRepository.deleteById(currentYearVacation);
+		partitionService.maintain();
+
+		assertThatThrownBy(() -> userService.deleteUser(user.getId()))
+				.isInstanceOf(ConflictException.class);
+		assertThat(userRepository.existsById(user.getId())).isTrue();
+	}
+
+	@Test
+	void backdatedRowsForAnArchivedYearDoNotBreakMaintenance() {
+		partitionService.maintain();
+		Long backdated = vacation(LocalDate.of(CLOSED_YEAR, 9, 1));
+
+		partitionService.maintain();
+
+		assertThat(partitions()).doesNotContain("vacation_requests_y" + CLOSED_YEAR);
+		assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM " + ARCHIVED_TABLE, Integer.class)).isEqualTo(1);
+		assertThat(jdbcTemplate.queryForObject("SELECT tableoid::regclass::text FROM vacation_requests WHERE id = ?",
+				String.class, backdated)).isEqualTo("vacation_requests_default");
+	}
+
+	@Test
+	@WithMockUser(username = "partition@archive.test")
+	void rejectsRequestsForClosedYears() {
+		partitionService.maintain();
+		int oldestLiveYear = LocalDate.now().getYear() - 2;
+
+		assertThatThrownBy(() -> vacationService.createVacation(request(LocalDate.of(CLOSED_YEAR, 8, 1))))
+				.isInstanceOf(InvalidRequestException.class)
+				.hasFieldOrPropertyWithValue("error", "YEAR_CLOSED");
+		assertThatThrownBy(() -> vacationService.createVacation(request(LocalDate.of(oldestLiveYear - 1, 12, 1))))
+				.isInstanceOf(InvalidRequestException.class)
+				.hasFieldOrPropertyWithValue("error", "YEAR_CLOSED");
+		assertThat(vacationService.createVacation(request(LocalDate.of(oldestLiveYear, 3, 1))).getId()).isNotNull();
+	}
+
+	@Test
+	void startupRunLogsFailuresInsteadOfFailingTheApplication() {
+		jdbcTemplate.execute("DROP VIEW IF EXISTS vacation_requests_all");
+		jdbcTemplate.execute("CREATE TABLE vacation_requests_all (id bigint)");
+		try {
+			assertThatNoException().isThrownBy(() -> partitionService.run(new DefaultApplicationArguments()));
+			assertThatThrownBy(() -> partitionService.maintain()).isInstanceOf(DataAccessException.class);
+		} finally {
+			jdbcTemplate.execute("DROP TABLE vacation_requests_all");
+		}
+	}
+
+	private static CreateVacationRequest request(LocalDate start) {
+		CreateVacationRequest request = new CreateVacationRequest();
+		request.setStartDate(start);
+		request.setEndDate(start.plusDays(2));
+		return request;
+	}
+
+	private Long vacation(LocalDate start) {
+		VacationRequest vacation = new VacationRequest();
+		vacation.setUser(user);
+		vacation.setStartDate(start);
+		vacation.setEndDate(start.plusDays(2));
+		vacation.setStatus(VacationStatus.APPROVED);
+		return vacationRepository.save(vacation).getId();
+	}
+
+	private List<String> partitions() {
+		return jdbcTemplate.queryForList("SELECT c.relname::text FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+				"WHERE i.inhparent = to_regclass('vacation_requests')", String.class);
+	}
+
+	private static List<Long> ids(List<VacationResponse> vacations) {
+		return vacations.stream().map(VacationResponse::getId).toList();
+	}
+}
@@ -4,7 +4,7 @@ import { useEffect, useState } from 'react';
 import { useRouter } from 'next/navigation';
 import { useAuth } from '@/contexts/AuthContext';
 import { api } from '@/lib/api';
-import { Role, VacationRequest, VacationStatus, User } from '@/types';
+import { Dashboard, Role, VacationRequest, VacationStatus, User } from '@/types';
 import Calendar from '@/components/Calendar';
 
 export default function DashboardPage() {
@@ -29,10 +29,7 @@ export default function DashboardPage() {
     if (!isLoading && !user) {
       router.push('/login');
     } else if (user) {
-      loadVacations();
-      if (user.role === Role.ADMIN) {
-        loadUsers();
-      }
+      loadDashboard();
     }
   }, [user, isLoading, router]);
 
@@ -41,21 +38,15 @@ export default function DashboardPage() {
     setTimeout(() => setToast(null), 3000);
   };
 
-  const loadVacations = async () => {
+  const loadDashboard = async () => {
     try {
-      const data = await api.getVacations();
-      setVacations(data);
-    } catch {
-      console.error('Failed to load vacations');
-    }
-  };
-
-  const loadUsers = async () => {
-    try {
-      const data = await api.getUsers();
-      setUsers(data);
+      const data: Dashboard = await api.getDashboard();
+      setVacations(data.vacations);
+      if (data.currentUser.role === Role.ADMIN) {
+        setUsers(data.team);
+      }
     } catch {
-      console.error('Failed to load users');
+      console.error('Failed to load dashboard');
     }
   };
 
@@ -82,7 +73,7 @@ export default function DashboardPage() {
     try {
       await api.createVacation({ startDate: start, endDate: end });
       setShowVacationModal(false);
-      loadVacations();
+      loadDashboard();
     } catch {
       alert('Failed to create vacation');
     } finally {
@@ -113,7 +104,7 @@ export default function DashboardPage() {
         managerId: managerId || null,
       });
       setShowUserModal(false);
-      loadUsers();
+      loadDashboard();
     } catch {
       alert('Failed to create user');
     } finally {
@@ -124,7 +115,7 @@ export default function DashboardPage() {
   const handleApprove = async (id: number) => {
     try {
       await api.approveVacation(id);
-      loadVacations();
+      loadDashboard();
     } catch {
       alert('Failed to approve');
     }
@@ -133,7 +124,7 @@ export default function DashboardPage() {
   const handleReject = async (id: number) => {
     try {
       await api.rejectVacation(id);
-      loadVacations();
+      loadDashboard();
     } catch {
       alert('Failed to reject');
     }
@@ -148,7 +139,7 @@ export default function DashboardPage() {
     
     try {
       await api.deleteUser(deleteUserConfirm.id);
-      loadUsers();
+      loadDashboard();
       showToast('User deleted successfully!', 'success');
       setDeleteUserConfirm(null);
     } catch (error: unknown) {
@@ -174,8 +165,7 @@ export default function DashboardPage() {
         await api.deleteVacation(vacation.id);
       }
       await api.deleteUser(deleteUserConfirm.id);
-      loadUsers();
-      loadVacations();
+      loadDashboard();
       showToast('User and vacations deleted successfully!', 'success');
       setDeleteUserConfirm(null);
     } catch {
@@ -193,7 +183,7 @@ export default function DashboardPage() {
     
     try {
       await api.deleteVacation(deleteVacationConfirm);
-      loadVacations();
+      loadDashboard();
       showToast('Vacation deleted successfully!', 'success');
       setDeleteVacationConfirm(null);
     } catch {
@@ -391,6 +381,7 @@ export default function DashboardPage() {
                           <span className={`px-2 py-1 rounded text-xs font-medium ${
                             v.status === VacationStatus.APPROVED ? 'bg-green-900 text-green-200 border border-green-700' :
                             v.status === VacationStatus.REJECTED ? 'bg-red-900 text-red-200 border border-red-700' :
+                            v.status === VacationStatus.EXPIRED ? 'bg-gray-700 text-gray-300 border border-gray-600' :
                             'bg-yellow-900 text-yellow-200 border border-yellow-700'
                           }`}>
                             {v.status}
@@ -104,6 +104,7 @@ export default function Calendar({ vacations }: CalendarProps) {
                     className={`text-[10px] px-1 rounded truncate ${
                       v.status === VacationStatus.APPROVED ? 'bg-green-900 text-green-200' :
                       v.status === VacationStatus.REJECTED ? 'bg-red-900 text-red-200' :
+                      v.status === VacationStatus.EXPIRED ? 'bg-gray-700 text-gray-300' :
                       'bg-yellow-900 text-yellow-200'
                     }`}
                     title={`${v.userName} - ${v.status}`}
@@ -51,6 +51,7 @@ export function AuthProvider({ children }: { children: ReactNode }) {
   };
 
   const logout = () => {
+    api.logout().catch(() => {});
     setToken(null);
     setUser(null);
     localStorage.removeItem('token');
@@ -22,6 +22,13 @@ export const api = {
     return response.json();
   },
 
+  async logout() {
+    await fetch(`${API_URL}/auth/logout`, {
+      method: 'POST',
+      headers: { ...getAuthHeader() },
+    });
+  },
+
   async getUsers() {
     const response = await fetch(`${API_URL}/users`, {
       headers: { ...getAuthHeader() },
@@ -53,17 +60,26 @@ export const api = {
 
     if (response.status === 409) {
       const data = await response.json();
-      throw { hasVacations: true, message: data.message };
+      throw { hasVacations: true, message: data.detail };
     }
 
     if (response.status === 403) {
       const data = await response.json();
-      throw { cannotDeleteSelf: true, message: data.message };
+      throw { cannotDeleteSelf: true, message: data.detail };
     }
 
     if (!response.ok) throw new Error('Failed to delete user');
   },
 
+  async getDashboard() {
+    const response = await fetch(`${API_URL}/dashboard`, {
+      headers: { ...getAuthHeader() },
+    });
+
+    if (!response.ok) throw new Error('Failed to fetch dashboard');
+    return response.json();
+  },
+
   async getVacations() {
     const response = await fetch(`${API_URL}/vacations`, {
       headers: { ...getAuthHeader() },
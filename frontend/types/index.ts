@@ -7,7 +7,8 @@ export enum Role {
 export enum VacationStatus {
   PENDING = 'PENDING',
   APPROVED = 'APPROVED',
-  REJECTED = 'REJECTED'
+  REJECTED = 'REJECTED',
+  EXPIRED = 'EXPIRED'
 }
 
 export interface User {
@@ -16,6 +17,7 @@ export interface User {
   name: string;
   role: Role;
   managerId?: number;
+  active?: boolean;
 }
 
 export interface AuthResponse {
@@ -38,4 +40,21 @@ export interface VacationRequest {
   startDate: string;
   endDate: string;
   status: VacationStatus;
-}
\ No newline at end of file
+}
+
+export interface CoverageSummary {
+  from: string;
+  to: string;
+  teamSize: number;
+  absentToday: number;
+  peakAbsent: number;
+  peakDate: string | null;
+}
+
+export interface Dashboard {
+  currentUser: User;
+  team: User[];
+  vacations: VacationRequest[];
+  pendingCount: number;
+  coverage: CoverageSummary;
+}